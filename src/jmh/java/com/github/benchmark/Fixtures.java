@@ -0,0 +1,57 @@
+package com.github.benchmark;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * Recorded GitHub API payloads used by the benchmarks.
+ */
+final class Fixtures {
+
+    static final String REPOSITORY = load("repository.json");
+    static final String USER = load("user.json");
+    static final String ISSUE = load("issue.json");
+
+    private Fixtures() {
+    }
+
+    /**
+     * A GET /user/repos page with {@code count} copies of the recorded repository.
+     */
+    static String repositoryPage(int count) {
+        StringJoiner page = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < count; i++) {
+            page.add(REPOSITORY.replace("\"id\": 1296269", "\"id\": " + (1296269 + i))
+                .replace("\"name\": \"Hello-World\"", "\"name\": \"test-repo-" + i + "\"")
+                .replace("\"html_url\": \"https://github.com/octocat/Hello-World\"",
+                    "\"html_url\": \"https://github.com/octocat/test-repo-" + i + "\""));
+        }
+        return page.toString();
+    }
+
+    static Response response(int statusCode, String body) {
+        return new ResponseBuilder()
+            .setStatusCode(statusCode)
+            .setContentType(ContentType.JSON)
+            .setBody(body)
+            .build();
+    }
+
+    private static String load(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
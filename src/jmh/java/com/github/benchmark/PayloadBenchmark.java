@@ -0,0 +1,67 @@
+package com.github.benchmark;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.github.model.CreateIssueRequest;
+import com.github.model.CreateRepositoryRequest;
+import com.github.service.GitHubApiClient;
+import com.github.service.RequestBodyWriter;
+import com.github.service.RequestBodyWriter.JsonBody;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full client path for the mutating calls (payload building, request setup, loopback round
+ * trip, log capture) against the local fixture stub, plus body serialization on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadBenchmark {
+
+    private StubContext context;
+    private GitHubApiClient client;
+    private ExtentTest test;
+
+    @Setup
+    public void setUp() {
+        context = StubContext.start("github.logging.overflow-policy=drop");
+        client = context.client();
+    }
+
+    @Setup(Level.Iteration)
+    public void newReport() {
+        // Log entries accumulate on the ExtentTest, so start a fresh one each iteration
+        test = new ExtentReports().createTest("payload-benchmark");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Response createRepositoryResponse() {
+        return client.createRepositoryResponse("test-repo-bench", "Repository \"quoted\" description", false, test);
+    }
+
+    @Benchmark
+    public Response createIssueResponse() {
+        return client.createIssueResponse("octocat", "Hello-World", "Found a bug", "I'm having a problem with this.", test);
+    }
+
+    @Benchmark
+    public JsonBody createRepositoryBody() {
+        return RequestBodyWriter.write(new CreateRepositoryRequest("test-repo-bench", "Repository \"quoted\" description", false));
+    }
+
+    @Benchmark
+    public JsonBody createIssueBody() {
+        return RequestBodyWriter.write(new CreateIssueRequest("Found a bug", "I'm having a problem with this."));
+    }
+}
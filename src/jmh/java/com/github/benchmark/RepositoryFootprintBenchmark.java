@@ -0,0 +1,87 @@
+package com.github.benchmark;
+
+import com.github.model.Repository;
+import com.github.model.RepositoryTable;
+import com.github.service.RepositoryJsonReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to read a large account's listing (100 repositories per page) into a
+ * {@code List<Repository>} or a RepositoryTable, and the heap each layout retains afterwards.
+ * The retained size is printed after each iteration as the drop in used heap, after full GCs,
+ * once the result is released; {@code -prof gc} adds the allocation rate while filling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class RepositoryFootprintBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"10000", "100000"})
+    int repositories;
+
+    @Param({"list", "table"})
+    String layout;
+
+    private final List<byte[]> pages = new ArrayList<>();
+    private Object retained;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String template = Fixtures.repositoryPage(PAGE_SIZE);
+        for (int page = 0; page < repositories / PAGE_SIZE; page++) {
+            // Distinct ids and names per page, as a real listing would have
+            String body = template.replace("\"id\": 1", "\"id\": " + (page + 1))
+                .replace("test-repo-", "test-repo-" + page + "-");
+            pages.add(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public Object load() {
+        if ("table".equals(layout)) {
+            RepositoryTable table = new RepositoryTable();
+            for (byte[] page : pages) {
+                RepositoryJsonReader.read(new ByteArrayInputStream(page), table);
+            }
+            table.trimToSize();
+            retained = table;
+        } else {
+            List<Repository> list = new ArrayList<>();
+            for (byte[] page : pages) {
+                RepositoryJsonReader.read(new ByteArrayInputStream(page), list::add);
+            }
+            retained = list;
+        }
+        return retained;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRetainedHeap() {
+        long withResult = usedHeapAfterGc();
+        retained = null;
+        long withoutResult = usedHeapAfterGc();
+        System.out.printf("%n%s of %d repositories retains ~%.1f MB (%d bytes per repository)%n",
+            layout, repositories, (withResult - withoutResult) / 1_048_576.0, (withResult - withoutResult) / repositories);
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.benchmark;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.github.config.GitHubProperties;
+import com.github.service.RequestLogPipeline;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request/response logging at realistic body sizes: what the request thread pays to hand an
+ * entry off, and what the background worker pays to render it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestLogBenchmark {
+
+    /**
+     * Repositories in the logged list body; 100 is a full page (~600 KB).
+     */
+    @Param({"1", "10", "100"})
+    int repositories;
+
+    private RequestLogPipeline asyncPipeline;
+    private RequestLogPipeline syncPipeline;
+    private String body;
+    private Response response;
+    private ExtentTest test;
+
+    @Setup
+    public void setUp() {
+        body = Fixtures.repositoryPage(repositories);
+        response = Fixtures.response(200, body);
+        response.asByteArray();
+        asyncPipeline = new RequestLogPipeline(settings(true));
+        syncPipeline = new RequestLogPipeline(settings(false));
+    }
+
+    @Setup(Level.Iteration)
+    public void newReport() {
+        test = new ExtentReports().createTest("log-benchmark");
+    }
+
+    @TearDown
+    public void tearDown() {
+        asyncPipeline.close();
+        syncPipeline.close();
+    }
+
+    @Benchmark
+    public void submitAsync() {
+        asyncPipeline.submit(test, "GET", "https://api.github.com/user/repos", null, response);
+    }
+
+    @Benchmark
+    public void submitSync() {
+        syncPipeline.submit(test, "GET", "https://api.github.com/user/repos", null, response);
+    }
+
+    @Benchmark
+    public String format() {
+        return syncPipeline.format("GET", "https://api.github.com/user/repos", null, 200, body);
+    }
+
+    private static GitHubProperties.Logging settings(boolean async) {
+        GitHubProperties.Logging settings = new GitHubProperties.Logging();
+        settings.setAsync(async);
+        settings.setOverflowPolicy(GitHubProperties.Logging.OverflowPolicy.DROP);
+        return settings;
+    }
+}
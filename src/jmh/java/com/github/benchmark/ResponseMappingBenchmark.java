@@ -0,0 +1,60 @@
+package com.github.benchmark;
+
+import com.github.model.Repository;
+import com.github.model.UserProfile;
+import com.github.service.GitHubApiClient;
+import io.restassured.response.Response;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning recorded responses into model objects, independent of the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"30", "100"})
+    int repositoriesPerPage;
+
+    private StubContext context;
+    private GitHubApiClient client;
+    private String repositoryPage;
+
+    @Setup
+    public void setUp() {
+        context = StubContext.start();
+        client = context.client();
+        repositoryPage = Fixtures.repositoryPage(repositoriesPerPage);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Repository> listRepositoriesAsObjects() {
+        // Fresh Response per call: Rest Assured caches parsed state on the instance
+        return client.listRepositoriesAsObjects(Fixtures.response(200, repositoryPage));
+    }
+
+    @Benchmark
+    public UserProfile getUserProfileAsObject() {
+        Response response = Fixtures.response(200, Fixtures.USER);
+        return client.getUserProfileAsObject(response);
+    }
+
+    @Benchmark
+    public JSONObject createIssueAsJson() {
+        Response response = Fixtures.response(201, Fixtures.ISSUE);
+        return client.createIssueAsJson(response);
+    }
+}
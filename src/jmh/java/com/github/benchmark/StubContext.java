@@ -0,0 +1,107 @@
+package com.github.benchmark;
+
+import com.github.GitHubAutomationApplication;
+import com.github.service.GitHubApiClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local loopback stub answering with recorded fixtures, plus a Spring context whose
+ * GitHubApiClient points at it. Rate limiting is disabled so only client cost is measured.
+ */
+final class StubContext implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ConfigurableApplicationContext applicationContext;
+
+    private StubContext(HttpServer server, ConfigurableApplicationContext applicationContext) {
+        this.server = server;
+        this.applicationContext = applicationContext;
+    }
+
+    static StubContext start(String... extraProperties) {
+        HttpServer server = startServer(Fixtures.repositoryPage(30));
+        // Passed as command-line arguments so they override application.yml
+        List<String> args = new ArrayList<>(List.of(
+            "--github.api.baseurl=http://localhost:" + server.getAddress().getPort(),
+            "--github.rate-limit.enabled=false",
+            "--github.stub.enabled=false",
+            "--spring.main.banner-mode=off"
+        ));
+        for (String property : extraProperties) {
+            args.add("--" + property);
+        }
+
+        ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(GitHubAutomationApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+        return new StubContext(server, applicationContext);
+    }
+
+    GitHubApiClient client() {
+        return applicationContext.getBean(GitHubApiClient.class);
+    }
+
+    @Override
+    public void close() {
+        applicationContext.close();
+        server.stop(0);
+    }
+
+    private static HttpServer startServer(String repositoryPage) {
+        // Without TCP_NODELAY the JDK server's small writes hit delayed ACKs and add ~40ms per call
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+            server.createContext("/", exchange -> {
+                String method = exchange.getRequestMethod();
+                String path = exchange.getRequestURI().getPath();
+                exchange.getRequestBody().readAllBytes();
+                if (method.equals("GET") && path.equals("/user")) {
+                    respond(exchange, 200, Fixtures.USER);
+                } else if (method.equals("GET") && path.equals("/user/repos")) {
+                    respond(exchange, 200, repositoryPage);
+                } else if (method.equals("POST") && path.equals("/user/repos")) {
+                    respond(exchange, 201, Fixtures.REPOSITORY);
+                } else if (method.equals("POST") && path.endsWith("/issues")) {
+                    respond(exchange, 201, Fixtures.ISSUE);
+                } else if (method.equals("PATCH")) {
+                    respond(exchange, 200, Fixtures.ISSUE);
+                } else if (method.equals("DELETE")) {
+                    respond(exchange, 204, null);
+                } else {
+                    respond(exchange, 404, "{\"message\":\"Not Found\"}");
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(statusCode, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.github;
 
+import com.github.stub.GitHubStubInitializer;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
 import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
 
 @SpringBootApplication(exclude = {
     JpaRepositoriesAutoConfiguration.class,
@@ -11,6 +17,23 @@ import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfig
 })
 public class GitHubAutomationApplication {
     public static void main(String[] args) {
-        SpringApplication.run(GitHubAutomationApplication.class, args);
+        SpringApplication application = new SpringApplication(GitHubAutomationApplication.class);
+        boolean load = Arrays.asList(args).contains("--load");
+        if (load) {
+            // Load mode runs once without a web server and exits when the report is printed
+            application.setWebApplicationType(WebApplicationType.NONE);
+            // Lets a load run target the embedded stub with --github.stub.enabled=true; the
+            // server itself never registers it (tests do through src/test/resources/META-INF)
+            application.addInitializers(new GitHubStubInitializer());
+            // Without TCP_NODELAY the stub's small writes hit delayed ACKs and add ~40ms per call.
+            // JVM-wide and read once, so it is set here before any HttpServer exists; tests set it in surefire's argLine
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+            // Default properties rank below application.yml, so enable it as a command-line argument
+            args = Stream.concat(Arrays.stream(args), Stream.of("--github.load.enabled=true")).toArray(String[]::new);
+        }
+        ConfigurableApplicationContext context = application.run(args);
+        if (load) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
-}
\ No newline at end of file
+}
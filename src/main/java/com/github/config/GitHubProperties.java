@@ -3,6 +3,11 @@ package com.github.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Data
 @Component
@@ -11,11 +16,25 @@ public class GitHubProperties {
     private String springApplicationName;
     private Api api = new Api();
     private DefaultProps defaultProps = new DefaultProps();
+    private Http http = new Http();
+    private Cache cache = new Cache();
+    private RateLimit rateLimit = new RateLimit();
+    private Async async = new Async();
+    private Coalescing coalescing = new Coalescing();
+    private Retry retry = new Retry();
+    private Hedging hedging = new Hedging();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Logging logging = new Logging();
+    private Stub stub = new Stub();
+    private Load load = new Load();
+    private Webhook webhook = new Webhook();
 
     @Data
     public static class Api {
         private String baseurl;
         private String token;
+        private List<String> tokens = new ArrayList<>();
+        private Duration quarantine = Duration.ofMinutes(10);
     }
 
     @Data
@@ -23,4 +42,141 @@ public class GitHubProperties {
         private String owner;
         private String repo;
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class Http {
+        private int maxConnections = 20;
+        private int maxConnectionsPerRoute = 20;
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration idleTimeout = Duration.ofSeconds(30);
+        private Duration evictionInterval = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Cache {
+        private int maxEntries = 256;
+        private Disk disk = new Disk();
+
+        @Data
+        public static class Disk {
+            private boolean enabled = false;
+            private String directory = System.getProperty("user.home") + "/.cache/github-automation";
+            private DataSize segmentSize = DataSize.ofMegabytes(16);
+        }
+    }
+
+    @Data
+    public static class RateLimit {
+        private boolean enabled = true;
+        private double requestsPerSecond = 10;
+        private int burst = 10;
+        private int maxRetries = 3;
+        private Duration maxWait = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class Async {
+        private int maxInFlight = 64;
+    }
+
+    @Data
+    public static class Coalescing {
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Retry {
+        private boolean enabled = true;
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private double multiplier = 2.0;
+        private List<Integer> retryOnStatus = new ArrayList<>(List.of(502, 503, 504));
+    }
+
+    @Data
+    public static class Hedging {
+        private boolean enabled = false;
+        private double percentile = 0.95;
+        private int minSamples = 20;
+        private Duration minDelay = Duration.ofMillis(50);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Logging {
+        private boolean async = true;
+        private int queueCapacity = 1024;
+        private int maxBodyChars = 16384;
+        private boolean prettyPrint = true;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        public enum OverflowPolicy {
+            DROP,
+            BLOCK
+        }
+    }
+
+    @Data
+    public static class Stub {
+        private boolean enabled = false;
+        private int port = 0;
+        private List<String> tokens = new ArrayList<>();
+        private Latency latency = new Latency();
+        private double errorRate = 0.0;
+        private int errorStatus = 502;
+        private Quota rateLimit = new Quota();
+
+        @Data
+        public static class Latency {
+            private Distribution distribution = Distribution.NONE;
+            private Duration mean = Duration.ZERO;
+            private Duration max = Duration.ofSeconds(5);
+
+            public enum Distribution {
+                NONE,
+                FIXED,
+                UNIFORM,
+                EXPONENTIAL
+            }
+        }
+
+        @Data
+        public static class Quota {
+            private int limit = 5000;
+            private Duration window = Duration.ofHours(1);
+        }
+    }
+
+    @Data
+    public static class Load {
+        private boolean enabled = false;
+        private Duration duration = Duration.ofSeconds(30);
+        private int concurrency = 8;
+        private double rate = 0;
+        private int maxRepositories = 50;
+        private Mix mix = new Mix();
+
+        @Data
+        public static class Mix {
+            private int create = 2;
+            private int list = 4;
+            private int createIssue = 2;
+            private int closeIssue = 1;
+            private int delete = 1;
+        }
+    }
+
+    @Data
+    public static class Webhook {
+        private boolean enabled = false;
+        private String path = "/webhooks/github";
+        private String secret;
+    }
+}
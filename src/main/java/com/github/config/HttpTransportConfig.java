@@ -0,0 +1,87 @@
+package com.github.config;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the shared HTTP transport used by every GitHubApiClient call: one pooled,
+ * keep-alive Apache client and one base RequestSpecification built from GitHubProperties.
+ */
+@Configuration
+@SuppressWarnings("deprecation") // Rest Assured 5 still requires an AbstractHttpClient.
+public class HttpTransportConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public PoolingClientConnectionManager gitHubConnectionManager(GitHubProperties properties) {
+        GitHubProperties.Http http = properties.getHttp();
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(http.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(http.getMaxConnectionsPerRoute());
+        return connectionManager;
+    }
+
+    /**
+     * Periodically closes expired and idle pooled connections so the pool never hands out
+     * a socket the server has already dropped.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService gitHubConnectionEvictor(
+        PoolingClientConnectionManager gitHubConnectionManager,
+        GitHubProperties properties
+    ) {
+        GitHubProperties.Http http = properties.getHttp();
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "github-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = http.getEvictionInterval().toMillis();
+        evictor.scheduleWithFixedDelay(() -> {
+            gitHubConnectionManager.closeExpiredConnections();
+            gitHubConnectionManager.closeIdleConnections(http.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return evictor;
+    }
+
+    @Bean
+    public DefaultHttpClient gitHubHttpClient(
+        PoolingClientConnectionManager gitHubConnectionManager,
+        GitHubProperties properties
+    ) {
+        long keepAliveMillis = properties.getHttp().getKeepAlive().toMillis();
+        DefaultHttpClient httpClient = new DefaultHttpClient(gitHubConnectionManager);
+        httpClient.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        });
+        return httpClient;
+    }
+
+    /**
+     * Base spec shared by all requests. Authorization is deliberately left out because the
+     * token can be swapped at runtime; callers add it per request.
+     */
+    @Bean
+    public RequestSpecification gitHubRequestSpec(DefaultHttpClient gitHubHttpClient, GitHubProperties properties) {
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+            .httpClientFactory(() -> gitHubHttpClient)
+            .reuseHttpClientInstance();
+
+        return new RequestSpecBuilder()
+            .setBaseUri(properties.getApi().getBaseurl())
+            .addHeader("Accept", "application/vnd.github.v3+json")
+            .setConfig(RestAssuredConfig.config().httpClient(httpClientConfig))
+            .build();
+    }
+}
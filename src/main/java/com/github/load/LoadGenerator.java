@@ -0,0 +1,323 @@
+package com.github.load;
+
+import com.github.config.GitHubProperties;
+import com.github.service.GitHubApiClient;
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives a weighted mix of client operations from {@code concurrency} virtual-thread workers
+ * for a fixed duration, either closed-loop or paced to a target rate. In paced mode latency is
+ * measured from each call's scheduled start, so a stalled client cannot hide queueing delay.
+ * <p>
+ * Repositories created during the run are checked out of a shared queue while an issue call
+ * uses them, so a concurrent delete never pulls a repository out from under another worker.
+ * A create first reserves one of {@code maxRepositories} slots, and a slot is only given back
+ * once the repository is gone; a failed delete returns the repository to the queue. Anything
+ * left over is bulk-deleted when the run ends.
+ */
+public class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final GitHubApiClient client;
+    private final GitHubProperties.Load settings;
+    private final String namePrefix = "load-" + UUID.randomUUID().toString().substring(0, 6) + "-";
+    private final AtomicLong nameSequence = new AtomicLong();
+    private final Queue<LoadRepository> repositories = new ConcurrentLinkedQueue<>();
+    private final Queue<OpenIssue> openIssues = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger liveRepositories = new AtomicInteger();
+    private final Map<LoadOperation, OperationStats> stats = new EnumMap<>(LoadOperation.class);
+
+    public LoadGenerator(GitHubApiClient client, GitHubProperties.Load settings) {
+        this.client = client;
+        this.settings = settings;
+        for (LoadOperation operation : LoadOperation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public LoadReport run() {
+        int workers = Math.max(1, settings.getConcurrency());
+        long intervalNanos = settings.getRate() > 0 ? (long) (workers * 1_000_000_000L / settings.getRate()) : 0;
+        long start = System.nanoTime();
+        long deadline = start + settings.getDuration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                // Stagger paced workers so their calls spread evenly across each interval
+                long firstStart = start + intervalNanos * i / workers;
+                executor.submit(() -> work(firstStart, deadline, intervalNanos));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        cleanUp();
+        return report(elapsedNanos);
+    }
+
+    private void work(long firstStart, long deadline, long intervalNanos) {
+        long scheduledStart = firstStart;
+        while (!Thread.currentThread().isInterrupted()) {
+            if (intervalNanos > 0) {
+                sleepUntil(scheduledStart);
+            } else {
+                scheduledStart = System.nanoTime();
+            }
+            if (scheduledStart >= deadline) {
+                return;
+            }
+            execute(pickOperation(), scheduledStart);
+            scheduledStart += intervalNanos;
+        }
+    }
+
+    private LoadOperation pickOperation() {
+        GitHubProperties.Load.Mix mix = settings.getMix();
+        int[] weights = {mix.getCreate(), mix.getList(), mix.getCreateIssue(), mix.getCloseIssue(), mix.getDelete()};
+        int total = 0;
+        for (int weight : weights) {
+            total += Math.max(0, weight);
+        }
+        if (total == 0) {
+            return LoadOperation.LIST_REPOSITORIES;
+        }
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= Math.max(0, weights[i]);
+            if (pick < 0) {
+                return LoadOperation.values()[i];
+            }
+        }
+        return LoadOperation.LIST_REPOSITORIES;
+    }
+
+    /**
+     * Runs the operation, or the nearest one that has something to act on, and records it.
+     */
+    private void execute(LoadOperation operation, long scheduledStart) {
+        switch (operation) {
+            case CREATE_REPOSITORY -> {
+                if (liveRepositories.get() >= settings.getMaxRepositories()) {
+                    execute(LoadOperation.DELETE_REPOSITORY, scheduledStart);
+                    return;
+                }
+                createRepository(scheduledStart);
+            }
+            // Conditional, so a warm (or disk-backed) cache turns unchanged listings into 304s
+            case LIST_REPOSITORIES -> record(operation, scheduledStart,
+                () -> client.listRepositories(null) != null);
+            case CREATE_ISSUE -> {
+                LoadRepository repository = repositories.poll();
+                if (repository == null) {
+                    createRepository(scheduledStart);
+                    return;
+                }
+                try {
+                    createIssue(repository, scheduledStart);
+                } finally {
+                    repositories.offer(repository);
+                }
+            }
+            case CLOSE_ISSUE -> {
+                OpenIssue issue = openIssues.poll();
+                if (issue == null) {
+                    execute(LoadOperation.CREATE_ISSUE, scheduledStart);
+                    return;
+                }
+                closeIssue(issue, scheduledStart);
+            }
+            case DELETE_REPOSITORY -> {
+                LoadRepository repository = repositories.poll();
+                if (repository == null) {
+                    createRepository(scheduledStart);
+                    return;
+                }
+                if (repository.openIssues().get() > 0) {
+                    // Its issues are still queued for closing; deleting now would turn those into 404s
+                    repositories.offer(repository);
+                    execute(LoadOperation.CLOSE_ISSUE, scheduledStart);
+                    return;
+                }
+                deleteRepository(repository, scheduledStart);
+            }
+        }
+    }
+
+    /**
+     * Creates a repository if a slot under {@code maxRepositories} can be reserved; otherwise
+     * lists instead, as every repository is checked out by another worker.
+     */
+    private void createRepository(long scheduledStart) {
+        if (!reserveRepositorySlot()) {
+            execute(LoadOperation.LIST_REPOSITORIES, scheduledStart);
+            return;
+        }
+        String name = namePrefix + nameSequence.incrementAndGet();
+        record(LoadOperation.CREATE_REPOSITORY, scheduledStart, () -> {
+            boolean created = false;
+            try {
+                Response response = client.createRepositoryResponse(name, "Repository created by load run", false, null);
+                created = response.getStatusCode() == 201;
+            } finally {
+                if (created) {
+                    repositories.offer(new LoadRepository(name, new AtomicInteger()));
+                } else {
+                    liveRepositories.decrementAndGet();
+                }
+            }
+            return created;
+        });
+    }
+
+    private boolean reserveRepositorySlot() {
+        int live;
+        do {
+            live = liveRepositories.get();
+            if (live >= settings.getMaxRepositories()) {
+                return false;
+            }
+        } while (!liveRepositories.compareAndSet(live, live + 1));
+        return true;
+    }
+
+    private void createIssue(LoadRepository repository, long scheduledStart) {
+        record(LoadOperation.CREATE_ISSUE, scheduledStart, () -> {
+            Response response = client.createIssueResponse(client.getDefaultOwner(), repository.name(),
+                "Load issue " + nameSequence.incrementAndGet(), "Issue created by load run", null);
+            if (response.getStatusCode() != 201) {
+                return false;
+            }
+            Integer number = GitHubApiClient.issueNumber(response);
+            if (number == null) {
+                return false;
+            }
+            repository.openIssues().incrementAndGet();
+            openIssues.offer(new OpenIssue(repository, String.valueOf(number)));
+            return true;
+        });
+    }
+
+    private void closeIssue(OpenIssue issue, long scheduledStart) {
+        try {
+            record(LoadOperation.CLOSE_ISSUE, scheduledStart, () -> client.closeIssueResponse(client.getDefaultOwner(),
+                issue.repository().name(), issue.number(), null).getStatusCode() == 200);
+        } finally {
+            issue.repository().openIssues().decrementAndGet();
+        }
+    }
+
+    private void deleteRepository(LoadRepository repository, long scheduledStart) {
+        record(LoadOperation.DELETE_REPOSITORY, scheduledStart, () -> {
+            int statusCode = -1;
+            try {
+                statusCode = client.deleteRepositoryResponse(repository.name(), null).getStatusCode();
+            } finally {
+                // Anything but 204 or 404 may have left it on the server; keep it for a later delete or cleanUp
+                if (statusCode == 204 || statusCode == 404) {
+                    liveRepositories.decrementAndGet();
+                } else {
+                    repositories.offer(repository);
+                }
+            }
+            return statusCode == 204;
+        });
+    }
+
+    private void record(LoadOperation operation, long scheduledStart, Call call) {
+        boolean success;
+        try {
+            success = call.run();
+        } catch (RuntimeException e) {
+            success = false;
+        }
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledStart);
+        stats.get(operation).record(latencyMicros, success);
+    }
+
+    private void cleanUp() {
+        List<String> leftovers = new ArrayList<>();
+        for (LoadRepository repository : repositories) {
+            leftovers.add(repository.name());
+        }
+        if (!leftovers.isEmpty()) {
+            client.deleteRepositories(leftovers, null);
+        }
+        repositories.clear();
+        openIssues.clear();
+        liveRepositories.set(0);
+    }
+
+    private LoadReport report(long elapsedNanos) {
+        List<LoadReport.OperationReport> operations = new ArrayList<>();
+        Histogram all = newHistogram();
+        long count = 0;
+        long errors = 0;
+        for (Map.Entry<LoadOperation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operationStats = entry.getValue();
+            Histogram latency = operationStats.latencyMicros.copy();
+            operations.add(new LoadReport.OperationReport(entry.getKey().getLabel(),
+                latency.getTotalCount(), operationStats.errors.sum(), latency));
+            all.add(latency);
+            count += latency.getTotalCount();
+            errors += operationStats.errors.sum();
+        }
+        return new LoadReport(Duration.ofNanos(elapsedNanos), operations,
+            new LoadReport.OperationReport("total", count, errors, all));
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        boolean run();
+    }
+
+    private record LoadRepository(String name, AtomicInteger openIssues) {
+    }
+
+    private record OpenIssue(LoadRepository repository, String number) {
+    }
+
+    private static final class OperationStats {
+        private final ConcurrentHistogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long latencyMicros, boolean success) {
+            this.latencyMicros.recordValue(Math.min(Math.max(1, latencyMicros), HIGHEST_TRACKABLE_MICROS));
+            if (!success) {
+                errors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.load;
+
+/**
+ * Client calls the load generator mixes, in report order.
+ */
+public enum LoadOperation {
+    CREATE_REPOSITORY("create-repository"),
+    LIST_REPOSITORIES("list-repositories"),
+    CREATE_ISSUE("create-issue"),
+    CLOSE_ISSUE("close-issue"),
+    DELETE_REPOSITORY("delete-repository");
+
+    private final String label;
+
+    LoadOperation(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
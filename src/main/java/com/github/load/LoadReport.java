@@ -0,0 +1,51 @@
+package com.github.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a load run: per-operation latency percentiles (microsecond histograms),
+ * throughput and error rate, plus the same figures across all operations.
+ */
+public record LoadReport(Duration elapsed, List<OperationReport> operations, OperationReport total) {
+
+    /**
+     * Fixed-width table, one row per operation and a final total row; latencies in milliseconds.
+     */
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Load run: %.1fs%n", elapsed.toMillis() / 1000.0));
+        report.append(String.format(Locale.ROOT, "%-18s %8s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+            "operation", "count", "errors", "err%", "req/s", "p50", "p90", "p99", "p99.9", "max"));
+        for (OperationReport operation : operations) {
+            report.append(operation.format(elapsed));
+        }
+        report.append(total.format(elapsed));
+        return report.toString();
+    }
+
+    public record OperationReport(String name, long count, long errors, Histogram latencyMicros) {
+
+        public double throughput(Duration elapsed) {
+            return elapsed.isZero() ? 0 : count * 1000.0 / elapsed.toMillis();
+        }
+
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+
+        public double percentileMillis(double percentile) {
+            return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        String format(Duration elapsed) {
+            return String.format(Locale.ROOT, "%-18s %8d %8d %6.2f%% %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, count, errors, errorRate() * 100, throughput(elapsed),
+                percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+                latencyMicros.getMaxValue() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.load;
+
+import com.github.config.GitHubProperties;
+import com.github.service.GitHubApiClient;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs one load generation pass at startup when {@code github.load.enabled=true} and prints
+ * the report. Started from the command line with {@code --load}; see GitHubAutomationApplication.
+ */
+@Component
+@ConditionalOnProperty(prefix = "github.load", name = "enabled", havingValue = "true")
+public class LoadRunner implements ApplicationRunner {
+
+    private final GitHubApiClient client;
+    private final GitHubProperties properties;
+
+    public LoadRunner(GitHubApiClient client, GitHubProperties properties) {
+        this.client = client;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        GitHubProperties.Load settings = properties.getLoad();
+        System.out.printf("Load run against %s: %d workers, %s, %s%n",
+            client.getBaseUrl(), settings.getConcurrency(), settings.getDuration(),
+            settings.getRate() > 0 ? settings.getRate() + " req/s target" : "closed loop");
+
+        LoadReport report = new LoadGenerator(client, settings).run();
+        System.out.print(report.format());
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Body of POST /repos/{owner}/{repo}/issues; a null body is omitted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CreateIssueRequest(String title, String body) {
+}
@@ -0,0 +1,15 @@
+package com.github.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Body of POST /user/repos.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CreateRepositoryRequest(
+    String name,
+    String description,
+    @JsonProperty("private") boolean privateRepo
+) {
+}
@@ -1,6 +1,7 @@
 package com.github.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 @Data
@@ -9,6 +10,10 @@ public class Repository {
     private long id;
     private String name;
     private String description;
+    @JsonProperty("private")
     private boolean privateRepo;
+    @JsonProperty("html_url")
     private String htmlUrl;
+    @JsonProperty("updated_at")
+    private String updatedAt;
 }
@@ -0,0 +1,392 @@
+package com.github.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Columnar, memory-lean alternative to {@code List<Repository>} for accounts with very many
+ * repositories. Each field is a primitive column indexed by row: names and descriptions are UTF-8
+ * slices of one shared byte pool, {@code html_url} is split into an interned
+ * {@code https://github.com/{owner}/} prefix plus a suffix that is normally just the name (and then
+ * not stored again), {@code updated_at} is kept as epoch seconds and nanos, and rows are found by
+ * id through an open-addressing long-to-int map instead of boxed keys. Strings are only created
+ * when a field is read. Not thread-safe; fill it from one thread, then share it read-only.
+ */
+public class RepositoryTable {
+
+    private static final int NULL = -1;
+    private static final int SAME_AS_NAME = -2;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int[] TIMESTAMP_DIGITS = {0, 1, 2, 3, 5, 6, 8, 9, 11, 12, 14, 15, 17, 18};
+
+    private int size;
+    private long[] ids;
+    private int[] nameOffsets;
+    private int[] nameLengths;
+    private int[] descriptionOffsets;
+    private int[] descriptionLengths;
+    private int[] urlPrefixes;
+    private int[] urlSuffixOffsets;
+    private int[] urlSuffixLengths;
+    private long[] updatedSeconds;
+    private int[] updatedNanos;
+    private final BitSet privateRows = new BitSet();
+
+    private byte[] pool = new byte[1024];
+    private int poolSize;
+
+    private final List<String> prefixes = new ArrayList<>();
+    private final Map<String, Integer> prefixIndex = new HashMap<>();
+    private int lastPrefix = NULL;
+
+    private long[] slotKeys;
+    private int[] slotRows;
+
+    public RepositoryTable() {
+        this(16);
+    }
+
+    public RepositoryTable(int expectedRows) {
+        int capacity = Math.max(16, expectedRows);
+        ids = new long[capacity];
+        nameOffsets = new int[capacity];
+        nameLengths = new int[capacity];
+        descriptionOffsets = new int[capacity];
+        descriptionLengths = new int[capacity];
+        urlPrefixes = new int[capacity];
+        urlSuffixOffsets = new int[capacity];
+        urlSuffixLengths = new int[capacity];
+        updatedSeconds = new long[capacity];
+        updatedNanos = new int[capacity];
+        int slots = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        slotKeys = new long[slots];
+        slotRows = new int[slots];
+        Arrays.fill(slotRows, NULL);
+    }
+
+    /**
+     * Adds a repository, or overwrites the row that already holds its id. Returns the row.
+     */
+    public int add(long id, String name, String description, boolean privateRepo, String htmlUrl, String updatedAt) {
+        int row = rowOf(id);
+        if (row == NULL) {
+            ensureCapacity(size + 1);
+            row = size++;
+            ids[row] = id;
+            putSlot(id, row);
+        }
+
+        nameLengths[row] = append(name, nameOffsets, row);
+        descriptionLengths[row] = append(description, descriptionOffsets, row);
+        privateRows.set(row, privateRepo);
+        setUrl(row, name, htmlUrl);
+        setUpdatedAt(row, updatedAt);
+        return row;
+    }
+
+    public int add(Repository repository) {
+        return add(repository.getId(), repository.getName(), repository.getDescription(),
+            repository.isPrivateRepo(), repository.getHtmlUrl(), repository.getUpdatedAt());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Row holding the id, or -1.
+     */
+    public int rowOf(long id) {
+        int mask = slotKeys.length - 1;
+        for (int slot = mix(id) & mask; slotRows[slot] != NULL; slot = (slot + 1) & mask) {
+            if (slotKeys[slot] == id) {
+                return slotRows[slot];
+            }
+        }
+        return NULL;
+    }
+
+    public boolean containsId(long id) {
+        return rowOf(id) != NULL;
+    }
+
+    public long getId(int row) {
+        checkRow(row);
+        return ids[row];
+    }
+
+    public String getName(int row) {
+        checkRow(row);
+        return string(nameOffsets[row], nameLengths[row]);
+    }
+
+    public String getDescription(int row) {
+        checkRow(row);
+        return string(descriptionOffsets[row], descriptionLengths[row]);
+    }
+
+    public boolean isPrivate(int row) {
+        checkRow(row);
+        return privateRows.get(row);
+    }
+
+    public String getHtmlUrl(int row) {
+        checkRow(row);
+        if (urlPrefixes[row] == NULL) {
+            return null;
+        }
+        String suffix = urlSuffixLengths[row] == SAME_AS_NAME
+            ? getName(row)
+            : string(urlSuffixOffsets[row], urlSuffixLengths[row]);
+        return prefixes.get(urlPrefixes[row]) + suffix;
+    }
+
+    public String getUpdatedAt(int row) {
+        checkRow(row);
+        return updatedSeconds[row] == NO_TIME
+            ? null
+            : Instant.ofEpochSecond(updatedSeconds[row], updatedNanos[row]).toString();
+    }
+
+    /**
+     * The row as a regular Repository.
+     */
+    public Repository get(int row) {
+        Repository repository = new Repository();
+        repository.setId(getId(row));
+        repository.setName(getName(row));
+        repository.setDescription(getDescription(row));
+        repository.setPrivateRepo(isPrivate(row));
+        repository.setHtmlUrl(getHtmlUrl(row));
+        repository.setUpdatedAt(getUpdatedAt(row));
+        return repository;
+    }
+
+    public Repository findById(long id) {
+        int row = rowOf(id);
+        return row == NULL ? null : get(row);
+    }
+
+    /**
+     * Materializes each row in turn; the consumer should not keep the objects if memory matters.
+     */
+    public void forEach(Consumer<Repository> consumer) {
+        for (int row = 0; row < size; row++) {
+            consumer.accept(get(row));
+        }
+    }
+
+    /**
+     * Shrinks the columns, pool and id map to what the current rows need; call once loading is done.
+     */
+    public void trimToSize() {
+        resize(Math.max(1, size));
+        pool = Arrays.copyOf(pool, poolSize);
+    }
+
+    /**
+     * Number of distinct html_url prefixes, normally one per owner.
+     */
+    public int getUrlPrefixCount() {
+        return prefixes.size();
+    }
+
+    /**
+     * Bytes allocated by the columns, pool and id map (array payloads only, excluding the few
+     * interned prefixes), for comparing against the footprint of a {@code List<Repository>}.
+     */
+    public long estimatedBytes() {
+        long columns = (long) ids.length * (Long.BYTES * 2 + Integer.BYTES * 8);
+        long map = (long) slotKeys.length * (Long.BYTES + Integer.BYTES);
+        return columns + map + pool.length + privateRows.size() / Byte.SIZE;
+    }
+
+    private void setUrl(int row, String name, String htmlUrl) {
+        int slash = htmlUrl == null ? -1 : htmlUrl.lastIndexOf('/');
+        if (slash < 0) {
+            urlPrefixes[row] = NULL;
+            return;
+        }
+        urlPrefixes[row] = prefixOf(htmlUrl, slash + 1);
+        int suffixLength = htmlUrl.length() - slash - 1;
+        if (name != null && name.length() == suffixLength && htmlUrl.startsWith(name, slash + 1)) {
+            urlSuffixLengths[row] = SAME_AS_NAME;
+        } else {
+            urlSuffixLengths[row] = append(htmlUrl.substring(slash + 1), urlSuffixOffsets, row);
+        }
+    }
+
+    /**
+     * Index of the interned prefix; consecutive rows usually share the owner, so the last prefix is
+     * checked first without creating a substring.
+     */
+    private int prefixOf(String htmlUrl, int length) {
+        if (lastPrefix != NULL) {
+            String prefix = prefixes.get(lastPrefix);
+            if (prefix.length() == length && htmlUrl.startsWith(prefix)) {
+                return lastPrefix;
+            }
+        }
+        lastPrefix = prefixIndex.computeIfAbsent(htmlUrl.substring(0, length), prefix -> {
+            prefixes.add(prefix);
+            return prefixes.size() - 1;
+        });
+        return lastPrefix;
+    }
+
+    /**
+     * Stores the timestamp as an instant; GitHub always sends ISO-8601 (e.g. 2011-01-26T19:14:43Z),
+     * which getUpdatedAt returns unchanged. That exact shape is decoded by hand, as Instant.parse
+     * allocates far more than the row itself takes.
+     */
+    private void setUpdatedAt(int row, String updatedAt) {
+        if (updatedAt == null) {
+            updatedSeconds[row] = NO_TIME;
+            return;
+        }
+        if (isPlainUtcTimestamp(updatedAt)) {
+            long days = LocalDate.of(digits(updatedAt, 0, 4), digits(updatedAt, 5, 7), digits(updatedAt, 8, 10)).toEpochDay();
+            updatedSeconds[row] = days * 86_400 + digits(updatedAt, 11, 13) * 3_600L
+                + digits(updatedAt, 14, 16) * 60L + digits(updatedAt, 17, 19);
+            updatedNanos[row] = 0;
+            return;
+        }
+        try {
+            Instant instant = Instant.parse(updatedAt);
+            updatedSeconds[row] = instant.getEpochSecond();
+            updatedNanos[row] = instant.getNano();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("updated_at is not an ISO-8601 instant: " + updatedAt, e);
+        }
+    }
+
+    /**
+     * yyyy-MM-ddTHH:mm:ssZ
+     */
+    private static boolean isPlainUtcTimestamp(String value) {
+        if (value.length() != 20 || value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T'
+            || value.charAt(13) != ':' || value.charAt(16) != ':' || value.charAt(19) != 'Z') {
+            return false;
+        }
+        for (int i : TIMESTAMP_DIGITS) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    /**
+     * Copies the string into the pool as UTF-8 and stores its offset; returns its length, or -1
+     * for null. ASCII, by far the common case for names, is copied without an intermediate array.
+     */
+    private int append(String value, int[] offsets, int row) {
+        if (value == null) {
+            offsets[row] = NULL;
+            return NULL;
+        }
+        int length = value.length();
+        ensurePool(length);
+        int offset = poolSize;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return appendEncoded(value, offsets, row);
+            }
+            pool[offset + i] = (byte) c;
+        }
+        offsets[row] = offset;
+        poolSize += length;
+        return length;
+    }
+
+    private int appendEncoded(String value, int[] offsets, int row) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensurePool(bytes.length);
+        System.arraycopy(bytes, 0, pool, poolSize, bytes.length);
+        offsets[row] = poolSize;
+        poolSize += bytes.length;
+        return bytes.length;
+    }
+
+    private void ensurePool(int bytes) {
+        if (poolSize + bytes > pool.length) {
+            pool = Arrays.copyOf(pool, Math.max(pool.length * 2, poolSize + bytes));
+        }
+    }
+
+    private String string(int offset, int length) {
+        return length < 0 ? null : new String(pool, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= ids.length) {
+            return;
+        }
+        resize(Math.max(rows, ids.length + (ids.length >> 1)));
+    }
+
+    private void resize(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        nameOffsets = Arrays.copyOf(nameOffsets, capacity);
+        nameLengths = Arrays.copyOf(nameLengths, capacity);
+        descriptionOffsets = Arrays.copyOf(descriptionOffsets, capacity);
+        descriptionLengths = Arrays.copyOf(descriptionLengths, capacity);
+        urlPrefixes = Arrays.copyOf(urlPrefixes, capacity);
+        urlSuffixOffsets = Arrays.copyOf(urlSuffixOffsets, capacity);
+        urlSuffixLengths = Arrays.copyOf(urlSuffixLengths, capacity);
+        updatedSeconds = Arrays.copyOf(updatedSeconds, capacity);
+        updatedNanos = Arrays.copyOf(updatedNanos, capacity);
+        int slots = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        if (slots != slotKeys.length) {
+            rehash(slots);
+        }
+    }
+
+    private void rehash(int slots) {
+        slotKeys = new long[slots];
+        slotRows = new int[slots];
+        Arrays.fill(slotRows, NULL);
+        for (int row = 0; row < size; row++) {
+            putSlot(ids[row], row);
+        }
+    }
+
+    private void putSlot(long id, int row) {
+        int mask = slotKeys.length - 1;
+        int slot = mix(id) & mask;
+        while (slotRows[slot] != NULL) {
+            slot = (slot + 1) & mask;
+        }
+        slotKeys[slot] = id;
+        slotRows[slot] = row;
+    }
+
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Body of PATCH /repos/{owner}/{repo}/issues/{issue_number}; null fields are left unchanged.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UpdateIssueRequest(String title, String body, String state) {
+
+    public static UpdateIssueRequest close() {
+        return new UpdateIssueRequest(null, null, "closed");
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk repository deletion, grouped by result:
+ * 204 deleted, 404 already gone, anything else (status or error) failed.
+ */
+public record BulkDeleteSummary(List<String> deleted, List<String> notFound, Map<String, String> failed) {
+
+    public int total() {
+        return deleted.size() + notFound.size() + failed.size();
+    }
+
+    public boolean hasFailures() {
+        return !failed.isEmpty();
+    }
+
+    /**
+     * Compact multi-line summary used as the single report entry for the whole batch.
+     */
+    public String toReport() {
+        StringBuilder report = new StringBuilder()
+            .append("Bulk delete of ").append(total()).append(" repositories\n")
+            .append("Deleted (204): ").append(deleted.size()).append(" ").append(deleted).append("\n")
+            .append("Not found (404): ").append(notFound.size()).append(" ").append(notFound).append("\n")
+            .append("Failed: ").append(failed.size());
+        failed.forEach((name, reason) -> report.append("\n  ").append(name).append(" -> ").append(reason));
+        return report.toString();
+    }
+}
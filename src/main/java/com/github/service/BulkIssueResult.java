@@ -0,0 +1,13 @@
+package com.github.service;
+
+/**
+ * Outcome of one item of a bulk issue call, at the same position as its input.
+ * {@code number} is the created or closed issue number; {@code error} is set when the
+ * request threw instead of returning a response (statusCode is then 0).
+ */
+public record BulkIssueResult(String item, int statusCode, Integer number, String error) {
+
+    public boolean succeeded() {
+        return error == null && (statusCode == 200 || statusCode == 201);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.service;
+
+import java.util.List;
+
+/**
+ * Results of a bulk issue creation or closing, in input order.
+ */
+public record BulkIssueSummary(String action, String repository, List<BulkIssueResult> results) {
+
+    public int total() {
+        return results.size();
+    }
+
+    public List<BulkIssueResult> succeeded() {
+        return results.stream().filter(BulkIssueResult::succeeded).toList();
+    }
+
+    public List<BulkIssueResult> failed() {
+        return results.stream().filter(result -> !result.succeeded()).toList();
+    }
+
+    public boolean hasFailures() {
+        return results.stream().anyMatch(result -> !result.succeeded());
+    }
+
+    /**
+     * Compact multi-line summary used as the single report entry for the whole batch:
+     * counts, plus one line per failed item with its position.
+     */
+    public String toReport() {
+        List<BulkIssueResult> failed = failed();
+        StringBuilder report = new StringBuilder()
+            .append("Bulk ").append(action).append(" of ").append(total()).append(" issues in ").append(repository).append("\n")
+            .append("Succeeded: ").append(total() - failed.size()).append("\n")
+            .append("Failed: ").append(failed.size());
+        for (int i = 0; i < results.size(); i++) {
+            BulkIssueResult result = results.get(i);
+            if (!result.succeeded()) {
+                report.append("\n  [").append(i).append("] ").append(result.item()).append(" -> ")
+                    .append(result.error() != null ? result.error() : "status " + result.statusCode());
+            }
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.service;
+
+import com.github.config.GitHubProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Fails fast while the GitHub API is down. After {@code failureThreshold} consecutive failures
+ * (5xx or I/O errors) the circuit opens and every call is rejected for {@code openDuration}; then a
+ * single probe is let through, which closes the circuit on success or reopens it on failure.
+ * GitHubApiClient wraps each HTTP request in {@link #execute}, inside any rate-limit parking, so
+ * a half-open probe is never held while its caller sleeps.
+ */
+@Component
+public class CircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Counter rejected;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    @Autowired
+    public CircuitBreaker(GitHubProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties.getCircuitBreaker(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public CircuitBreaker(GitHubProperties.CircuitBreaker settings, MeterRegistry meterRegistry) {
+        this.enabled = settings.isEnabled();
+        this.failureThreshold = Math.max(1, settings.getFailureThreshold());
+        this.openMillis = settings.getOpenDuration().toMillis();
+
+        Gauge.builder("github.client.circuit.state", this, breaker -> breaker.getState().ordinal())
+            .description("Circuit breaker state: 0 closed, 1 half-open, 2 open")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("github.client.circuit.rejected")
+            .description("Calls rejected without being sent because the circuit was open")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Lets the call through, or throws CircuitBreakerOpenException while the circuit is open
+     * (or half-open with its probe already in flight).
+     */
+    public synchronized void acquirePermission() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (state == State.OPEN) {
+            long retryIn = openedAt + openMillis - now;
+            if (retryIn > 0) {
+                rejected.increment();
+                throw new CircuitBreakerOpenException(retryIn);
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                rejected.increment();
+                throw new CircuitBreakerOpenException(0);
+            }
+            probeInFlight = true;
+        }
+    }
+
+    /**
+     * Sends one request under a permission taken just before it, and records its outcome: a 5xx or
+     * an exception is a failure, any other response a success.
+     */
+    public Response execute(Supplier<Response> call) {
+        acquirePermission();
+        boolean completed = false;
+        try {
+            Response response = call.get();
+            completed = true;
+            if (response.getStatusCode() >= 500) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            return response;
+        } catch (Exception e) {
+            // Rest Assured rethrows connection errors (checked IOExceptions) undeclared
+            completed = true;
+            onFailure();
+            throw e;
+        } finally {
+            // An Error gives no outcome to record; free a half-open probe so the circuit is not stuck
+            if (!completed) {
+                releasePermission();
+            }
+        }
+    }
+
+    /**
+     * Returns a permission whose call ended without an outcome, so a half-open circuit can send
+     * another probe.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.service;
+
+/**
+ * Thrown instead of sending a request while the circuit breaker is open.
+ */
+public class CircuitBreakerOpenException extends IllegalStateException {
+
+    public CircuitBreakerOpenException(long retryInMillis) {
+        super("GitHub API circuit breaker is open; requests are rejected for another " + retryInMillis + " ms");
+    }
+}
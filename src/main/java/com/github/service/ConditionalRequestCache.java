@@ -0,0 +1,88 @@
+package com.github.service;
+
+import com.github.config.GitHubProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of ETags and parsed models for conditional GETs.
+ * Entries are keyed by URL plus a fingerprint of the credential, so two tokens never share data.
+ */
+@Component
+public class ConditionalRequestCache {
+
+    private final int maxEntries;
+    private final Map<String, CachedResponse> entries;
+
+    @Autowired
+    public ConditionalRequestCache(GitHubProperties properties) {
+        this(properties.getCache().getMaxEntries());
+    }
+
+    public ConditionalRequestCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > ConditionalRequestCache.this.maxEntries;
+            }
+        };
+    }
+
+    public static String key(String url, String token) {
+        return url + "#" + TokenFingerprint.of(token);
+    }
+
+    public synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(String key, String etag, Object value) {
+        if (maxEntries > 0) {
+            entries.put(key, new CachedResponse(etag, value));
+        }
+    }
+
+    public synchronized void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Drops the entries of every credential for the URL and for anything below it, such as
+     * its sub-paths and query variants. Returns the number of entries removed.
+     */
+    public synchronized int invalidateUrl(String url) {
+        int before = entries.size();
+        entries.keySet().removeIf(key -> matchesUrl(key, url));
+        return before - entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Whether a key built by {@link #key} belongs to the URL or to something below it.
+     * For example, "/repos/o/app" matches "/repos/o/app/issues" but not "/repos/o/app2".
+     */
+    static boolean matchesUrl(String key, String url) {
+        if (!key.startsWith(url)) {
+            return false;
+        }
+        char next = key.charAt(url.length());
+        return next == '#' || next == '/' || next == '?';
+    }
+
+    /**
+     * Validator and parsed model from the last 200 response for a key.
+     */
+    public record CachedResponse(String etag, Object value) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.service;
+
+import com.github.config.GitHubProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Rotates requests over the configured tokens ({@code github.api.token} plus {@code github.api.tokens})
+ * in turn. Tokens answered with 401 are quarantined for {@code github.api.quarantine}.
+ * <p>
+ * Every call the client makes is scoped to the authenticated user, so all tokens must belong to the
+ * same account; see {@link #verifySameAccount}. For personal access tokens GitHub counts the primary
+ * rate limit per account, not per token, so the pool adds no quota and no token is fuller than
+ * another: once verified, the tokens share one RateLimitScheduler budget. The pool keeps requests
+ * flowing when a token is revoked or rejected.
+ */
+@Component
+public class CredentialPool {
+
+    private final Map<String, Credential> credentials = new LinkedHashMap<>();
+    private final List<Credential> rotation;
+    private final AtomicInteger next = new AtomicInteger();
+    private final String primaryToken;
+    private final long quarantineMillis;
+    private final RateLimitScheduler rateLimitScheduler;
+
+    @Autowired
+    public CredentialPool(GitHubProperties properties, RateLimitScheduler rateLimitScheduler,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this(tokens(properties.getApi()), properties.getApi().getQuarantine(), rateLimitScheduler,
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public CredentialPool(Collection<String> tokens, Duration quarantine, RateLimitScheduler rateLimitScheduler,
+                          MeterRegistry meterRegistry) {
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("At least one GitHub token is required");
+        }
+        for (String token : tokens) {
+            credentials.putIfAbsent(token, new Credential(token));
+        }
+        this.rotation = List.copyOf(credentials.values());
+        this.primaryToken = tokens.iterator().next();
+        this.quarantineMillis = quarantine.toMillis();
+        this.rateLimitScheduler = rateLimitScheduler;
+
+        Gauge.builder("github.credentials.available", this, CredentialPool::getAvailableCount)
+            .description("Tokens currently in rotation (not quarantined)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Picks the next token in turn, skipping quarantined ones; when all are quarantined it falls
+     * back to the primary token. An exhausted account quota is left to RateLimitScheduler, which
+     * parks the caller until the reset whichever token it holds.
+     */
+    public String acquire() {
+        long now = System.currentTimeMillis();
+        int start = next.getAndIncrement();
+        for (int i = 0; i < rotation.size(); i++) {
+            Credential credential = rotation.get(Math.floorMod(start + i, rotation.size()));
+            if (credential.quarantinedUntil <= now) {
+                return credential.token;
+            }
+        }
+        return primaryToken;
+    }
+
+    /**
+     * Takes a token out of rotation for the quarantine period when GitHub rejects it.
+     * Tokens that are not part of the pool are ignored.
+     */
+    public void report(String token, Response response) {
+        Credential credential = credentials.get(token);
+        if (credential != null && response.getStatusCode() == 401) {
+            credential.quarantinedUntil = System.currentTimeMillis() + quarantineMillis;
+        }
+    }
+
+    /**
+     * Resolves every pooled token to its login and throws IllegalStateException unless they all
+     * match, as a token of another account would read and write that account's repositories.
+     * Tokens are identified by fingerprint in the message. Once they match, RateLimitScheduler
+     * counts all of them against the account's one budget.
+     */
+    public void verifySameAccount(Function<String, String> loginOf) {
+        String expected = loginOf.apply(primaryToken);
+        for (String token : credentials.keySet()) {
+            String login = token.equals(primaryToken) ? expected : loginOf.apply(token);
+            if (!expected.equalsIgnoreCase(login)) {
+                throw new IllegalStateException("Pooled GitHub tokens must belong to one account: token "
+                    + TokenFingerprint.of(token) + " is " + login + ", the primary token is " + expected);
+            }
+        }
+        for (String token : credentials.keySet()) {
+            rateLimitScheduler.assignAccount(token, expected);
+        }
+    }
+
+    public boolean contains(String token) {
+        return credentials.containsKey(token);
+    }
+
+    public String getPrimaryToken() {
+        return primaryToken;
+    }
+
+    public int size() {
+        return credentials.size();
+    }
+
+    public int getAvailableCount() {
+        long now = System.currentTimeMillis();
+        int available = 0;
+        for (Credential credential : rotation) {
+            if (credential.quarantinedUntil <= now) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    private static List<String> tokens(GitHubProperties.Api api) {
+        List<String> tokens = new ArrayList<>();
+        if (api.getToken() != null && !api.getToken().isBlank()) {
+            tokens.add(api.getToken());
+        }
+        for (String token : api.getTokens()) {
+            if (token != null && !token.isBlank()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Credential {
+        private final String token;
+        private volatile long quarantinedUntil;
+
+        Credential(String token) {
+            this.token = token;
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.github.service;
+
+import com.github.config.GitHubProperties;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Disk-backed store of GET response bodies and their ETags, so a new JVM can send conditional
+ * requests from its first call. Records are appended to segment files ({@code segment-N.dat}); an
+ * in-memory index from cache key (URL plus credential fingerprint, never the token) to record
+ * position is rebuilt by scanning the segments at startup. A torn record at the end of a segment is
+ * truncated. Once most of the bytes on disk are superseded, at startup or after a write, the live
+ * records are copied into fresh segments and the old ones deleted.
+ * Entries are only ever used with If-None-Match, so a stale body is never served without GitHub's 304.
+ * A lock file keeps a second JVM sharing the directory from writing; that JVM runs without the cache.
+ */
+@Slf4j
+@Component
+public class DiskResponseCache {
+
+    private static final int MAGIC = 0x47484331;
+    private static final int HEADER_BYTES = 8;
+    private static final int CRC_BYTES = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final Map<Integer, FileChannel> segments = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private volatile boolean enabled;
+    private int activeSegment;
+    private long liveBytes;
+    private long totalBytes;
+
+    @Autowired
+    public DiskResponseCache(GitHubProperties properties) {
+        this(properties.getCache().getDisk());
+    }
+
+    public DiskResponseCache(GitHubProperties.Cache.Disk settings) {
+        this.directory = Path.of(settings.getDirectory());
+        this.segmentBytes = settings.getSegmentSize().toBytes();
+        if (settings.isEnabled()) {
+            try {
+                open();
+            } catch (IOException e) {
+                log.warn("Disk response cache disabled, could not open {}: {}", directory, e.getMessage());
+                close();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Stored ETag and body for the key, or null when there is none (or the cache is disabled).
+     */
+    public Entry get(String key) {
+        Location location = enabled ? index.get(key) : null;
+        if (location == null) {
+            return null;
+        }
+        try {
+            // A compaction may have deleted the segment since the index lookup; that reads as a miss
+            FileChannel channel = segments.get(location.segment());
+            ByteBuffer record = ByteBuffer.allocate(location.length());
+            if (channel == null || !readFully(channel, record, location.offset())) {
+                return null;
+            }
+            Record decoded = decode(record);
+            return decoded != null && decoded.key().equals(key) ? new Entry(decoded.etag(), decoded.body()) : null;
+        } catch (IOException e) {
+            log.warn("Disk response cache read failed for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Appends the response; the previous record for the key becomes garbage for the next compaction.
+     */
+    public void put(String key, String etag, byte[] body) {
+        if (!enabled) {
+            return;
+        }
+        ByteBuffer record = encode(key, etag, body);
+        writeLock.lock();
+        try {
+            Location location = append(record);
+            Location previous = index.put(key, location);
+            liveBytes += location.length() - (previous == null ? 0 : previous.length());
+            totalBytes += location.length();
+            if (needsCompaction()) {
+                compact();
+            }
+        } catch (IOException e) {
+            log.warn("Disk response cache write failed for {}: {}", key, e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Forgets the stored responses for the URL and for anything below it, as
+     * ConditionalRequestCache.invalidateUrl does. The records stay in their segments until the
+     * next compaction and come back if the JVM restarts before then. That is harmless, since
+     * a stored body is only ever used after GitHub answers its ETag with 304.
+     */
+    public int invalidateUrl(String url) {
+        if (!enabled) {
+            return 0;
+        }
+        int removed = 0;
+        writeLock.lock();
+        try {
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                if (ConditionalRequestCache.matchesUrl(entry.getKey(), url) && index.remove(entry.getKey(), entry.getValue())) {
+                    liveBytes -= entry.getValue().length();
+                    removed++;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return removed;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Bytes of the records the index points at; the rest of the segment bytes are superseded.
+     */
+    public long getLiveBytes() {
+        writeLock.lock();
+        try {
+            return liveBytes;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Number of segment files currently in use.
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        enabled = false;
+        writeLock.lock();
+        try {
+            for (FileChannel channel : segments.values()) {
+                closeQuietly(channel);
+            }
+            segments.clear();
+            index.clear();
+            if (lock != null && lock.isValid()) {
+                lock.release();
+            }
+            closeQuietly(lockChannel);
+        } catch (IOException e) {
+            log.warn("Could not release disk response cache lock: {}", e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve("cache.lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            throw new IOException("directory is in use by another cache in this JVM");
+        }
+        if (lock == null) {
+            throw new IOException("directory is in use by another process");
+        }
+
+        TreeMap<Integer, Path> files = new TreeMap<>();
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing.forEach(path -> {
+                Integer number = segmentNumber(path);
+                if (number != null) {
+                    files.put(number, path);
+                }
+            });
+        }
+        for (Map.Entry<Integer, Path> file : files.entrySet()) {
+            FileChannel channel = FileChannel.open(file.getValue(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            segments.put(file.getKey(), channel);
+            scan(file.getKey(), channel);
+        }
+        activeSegment = files.isEmpty() ? openSegment(0) : files.lastKey();
+        enabled = true;
+
+        writeLock.lock();
+        try {
+            if (needsCompaction()) {
+                compact();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Indexes every intact record of a segment; later records for a key supersede earlier ones.
+     */
+    private void scan(int segment, FileChannel channel) throws IOException {
+        long offset = 0;
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (offset + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, offset);
+            int length = header.getInt(4) + HEADER_BYTES + CRC_BYTES;
+            if (header.getInt(0) != MAGIC || length <= HEADER_BYTES + CRC_BYTES || offset + length > size) {
+                break;
+            }
+            ByteBuffer record = ByteBuffer.allocate(length);
+            Record decoded = readFully(channel, record, offset) ? decode(record) : null;
+            if (decoded == null) {
+                break;
+            }
+            Location previous = index.put(decoded.key(), new Location(segment, offset, length));
+            liveBytes += length - (previous == null ? 0 : previous.length());
+            totalBytes += length;
+            offset += length;
+        }
+        if (offset < size) {
+            // Torn or corrupt tail from an interrupted write
+            channel.truncate(offset);
+        }
+    }
+
+    /**
+     * Appends an encoded record to the active segment, rolling to a new one when it is full.
+     * Called with the write lock held.
+     */
+    private Location append(ByteBuffer record) throws IOException {
+        if (segments.get(activeSegment).size() + record.remaining() > segmentBytes) {
+            activeSegment = openSegment(activeSegment + 1);
+        }
+        FileChannel channel = segments.get(activeSegment);
+        long offset = channel.size();
+        int length = record.remaining();
+        while (record.hasRemaining()) {
+            channel.write(record, offset + record.position());
+        }
+        return new Location(activeSegment, offset, length);
+    }
+
+    private boolean needsCompaction() {
+        return totalBytes > segmentBytes && liveBytes * 2 < totalBytes;
+    }
+
+    /**
+     * Copies the live records into fresh segments, repoints the index entry by entry so readers
+     * always find a record, and deletes the old segments. Called with the write lock held. A copy
+     * has the same length as its original, so liveBytes only drops for records that could not be
+     * read; afterwards every byte on disk is live.
+     */
+    private void compact() throws IOException {
+        List<Map.Entry<String, Location>> live = new ArrayList<>(index.entrySet());
+        List<Integer> oldSegments = new ArrayList<>(segments.keySet());
+        activeSegment = openSegment(activeSegment + 1);
+        long written = 0;
+        try {
+            for (Map.Entry<String, Location> entry : live) {
+                Entry value = get(entry.getKey());
+                if (value == null) {
+                    // Unreadable; it goes with its segment
+                    index.remove(entry.getKey(), entry.getValue());
+                    liveBytes -= entry.getValue().length();
+                    continue;
+                }
+                Location copy = append(encode(entry.getKey(), value.etag(), value.body()));
+                written += copy.length();
+                index.replace(entry.getKey(), entry.getValue(), copy);
+            }
+        } catch (IOException e) {
+            // The old segments stay, and the index points into old and new ones alike
+            totalBytes += written;
+            throw e;
+        }
+        for (int segment : oldSegments) {
+            closeQuietly(segments.remove(segment));
+            Files.deleteIfExists(segmentPath(segment));
+        }
+        totalBytes = written;
+    }
+
+    private int openSegment(int number) throws IOException {
+        segments.put(number, FileChannel.open(segmentPath(number),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        return number;
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(SEGMENT_PREFIX + number + SEGMENT_SUFFIX);
+    }
+
+    private static Integer segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * [magic][payload length][key UTF][etag UTF][body length][body][CRC32 of payload]
+     */
+    private static ByteBuffer encode(String key, String etag, byte[] body) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_BYTES + key.length() + etag.length() + body.length + 16);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(0);
+            out.writeUTF(key);
+            out.writeUTF(etag);
+            out.writeInt(body.length);
+            out.write(body);
+            out.writeLong(0);
+            ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+            int payloadLength = record.capacity() - HEADER_BYTES - CRC_BYTES;
+            record.putInt(4, payloadLength);
+            CRC32 crc = new CRC32();
+            crc.update(record.array(), HEADER_BYTES, payloadLength);
+            record.putLong(HEADER_BYTES + payloadLength, crc.getValue());
+            return record;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decodes a whole record, or returns null when it is damaged.
+     */
+    private static Record decode(ByteBuffer record) {
+        int payloadLength = record.getInt(4);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), HEADER_BYTES, payloadLength);
+        if (record.getInt(0) != MAGIC || crc.getValue() != record.getLong(HEADER_BYTES + payloadLength)) {
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(record.array(), HEADER_BYTES, payloadLength));
+            String key = in.readUTF();
+            String etag = in.readUTF();
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new Record(key, etag, body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close disk response cache file: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cached ETag and raw body of a 200 response.
+     */
+    public record Entry(String etag, byte[] body) {
+
+        /**
+         * The body as a JSON Response, for the same mappers that read live responses.
+         */
+        public Response toResponse() {
+            return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json; charset=utf-8")
+                .setHeaders(new Headers(new Header("ETag", etag)))
+                .setBody(body)
+                .build();
+        }
+    }
+
+    private record Location(int segment, long offset, int length) {
+    }
+
+    private record Record(String key, String etag, byte[] body) {
+    }
+}
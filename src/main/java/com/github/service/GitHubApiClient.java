@@ -4,18 +4,43 @@ import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.markuputils.CodeLanguage;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.model.CreateIssueRequest;
+import com.github.model.CreateRepositoryRequest;
 import com.github.model.Repository;
+import com.github.model.RepositoryTable;
+import com.github.model.UpdateIssueRequest;
 import com.github.model.UserProfile;
+import com.github.service.RequestBodyWriter.JsonBody;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import lombok.Getter;
 import lombok.Setter;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static io.restassured.RestAssured.given;
 
@@ -24,18 +49,168 @@ import static io.restassured.RestAssured.given;
 @Service
 public class GitHubApiClient {
 
+    private static final String INVALID_TOKEN = "INVALID_TOKEN";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int REPOSITORY_PAGE_SIZE = 100;
+
+    // Endpoint templates used as metric tags
+    private static final String USER_TEMPLATE = "/user";
+    private static final String REPOS_TEMPLATE = "/user/repos";
+    private static final String REPO_TEMPLATE = "/repos/{owner}/{repo}";
+    private static final String ISSUES_TEMPLATE = REPO_TEMPLATE + "/issues";
+    private static final String ISSUE_TEMPLATE = ISSUES_TEMPLATE + "/{issue_number}";
+
+    private static final String SORTED_REPOS_ENDPOINT =
+        "/user/repos?affiliation=owner&sort=updated&direction=desc&per_page=" + REPOSITORY_PAGE_SIZE;
+
     private final String baseUrl;
     private String token;
     private final String defaultOwner;
+    private final RequestSpecification requestSpec;
+    private final ConditionalRequestCache responseCache;
+    private final RateLimitScheduler rateLimitScheduler;
+    private final GitHubRequestExecutor requestExecutor;
+    private final int bulkParallelism;
+    private final RequestLogPipeline requestLog;
+    private final GitHubClientMetrics clientMetrics;
+    private final RequestCoalescer requestCoalescer;
+    private final CredentialPool credentialPool;
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final RequestHedger requestHedger;
+    private final DiskResponseCache diskCache;
+    private final RepositoryIndex repositoryIndex;
 
     public GitHubApiClient(
         @Value("${github.api.baseurl}") String baseUrl,
         @Value("${github.api.token}") String token,
-        @Value("${github.default.owner}") String defaultOwner
+        @Value("${github.default.owner}") String defaultOwner,
+        @Value("${github.bulk.parallelism:8}") int bulkParallelism,
+        RequestSpecification gitHubRequestSpec,
+        ConditionalRequestCache responseCache,
+        RateLimitScheduler rateLimitScheduler,
+        GitHubRequestExecutor requestExecutor,
+        RequestLogPipeline requestLog,
+        GitHubClientMetrics clientMetrics,
+        RequestCoalescer requestCoalescer,
+        CredentialPool credentialPool,
+        RetryPolicy retryPolicy,
+        CircuitBreaker circuitBreaker,
+        RequestHedger requestHedger,
+        DiskResponseCache diskCache,
+        RepositoryIndex repositoryIndex
     ) {
         this.baseUrl = baseUrl;
         this.token = token;
         this.defaultOwner = defaultOwner;
+        this.bulkParallelism = bulkParallelism;
+        this.requestSpec = gitHubRequestSpec;
+        this.responseCache = responseCache;
+        this.rateLimitScheduler = rateLimitScheduler;
+        this.requestExecutor = requestExecutor;
+        this.requestLog = requestLog;
+        this.clientMetrics = clientMetrics;
+        this.requestCoalescer = requestCoalescer;
+        this.credentialPool = credentialPool;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.requestHedger = requestHedger;
+        this.diskCache = diskCache;
+        this.repositoryIndex = repositoryIndex;
+    }
+
+    /**
+     * Sends a request through the shared rate-limit scheduler; every call goes through here.
+     * Each attempt is timed under the endpoint template, excluding time parked for rate limits.
+     * Package-private so GitHubGraphQlClient shares the same pacing, metrics and buffering.
+     */
+    Response execute(String bearerToken, String method, String uriTemplate, Supplier<Response> call) {
+        return execute(bearerToken, method, uriTemplate, RetryPolicy.isIdempotent(method), call);
+    }
+
+    /**
+     * As above; idempotent calls are retried on transient failures. Each attempt waits for the
+     * rate-limit scheduler first and only then asks the circuit breaker, which rejects it while open.
+     */
+    private Response execute(String bearerToken, String method, String uriTemplate, boolean idempotent,
+                             Supplier<Response> call) {
+        return retryPolicy.execute(method, uriTemplate, idempotent, () -> rateLimitScheduler.execute(bearerToken,
+            () -> send(bearerToken, method, uriTemplate, call)));
+    }
+
+    /**
+     * One HTTP request, timed under the endpoint template and guarded by the circuit breaker.
+     */
+    private Response send(String bearerToken, String method, String uriTemplate, Supplier<Response> call) {
+        return circuitBreaker.execute(() -> clientMetrics.record(method, uriTemplate, () -> {
+            Response response = call.get();
+            credentialPool.report(bearerToken, response);
+            // Rest Assured reads bodies lazily; buffer now so the pooled connection is released
+            // on this thread instead of whenever the log worker gets to the entry.
+            response.asByteArray();
+            return response;
+        }));
+    }
+
+    /**
+     * GET through the same retry and rate-limit pipeline as {@link #execute}, shared with any
+     * identical GET (same URL, credential and If-None-Match) already in flight instead of sending
+     * a duplicate. Within each attempt a slow request may be hedged with a second one built from
+     * a copy of the spec, as specs are not safe to share; copies come from one taken before
+     * anything is sent, since sending a request modifies its spec. A hedge only goes out if the
+     * rate limit has budget for it without waiting.
+     */
+    private Response executeGet(String bearerToken, String uriTemplate, String url, String etag,
+                                RequestSpecification request, String path) {
+        return requestCoalescer.execute(RequestCoalescer.key(url, bearerToken, etag), () -> {
+            RequestSpecification unsent = given().spec(request);
+            return retryPolicy.execute("GET", uriTemplate, true, () -> rateLimitScheduler.execute(bearerToken, () -> {
+                RequestSpecification hedgeRequest = given().spec(unsent);
+                return requestHedger.execute(uriTemplate,
+                    () -> send(bearerToken, "GET", uriTemplate, () -> request.get(path)),
+                    () -> send(bearerToken, "GET", uriTemplate, () -> hedgeRequest.get(path)),
+                    () -> rateLimitScheduler.tryReserve(bearerToken));
+            }));
+        });
+    }
+
+    /**
+     * Token for the next request: picked from the credential pool, unless setToken replaced the
+     * configured token with one outside the pool (as the invalid-token tests do).
+     */
+    String selectToken() {
+        return credentialPool.contains(token) ? credentialPool.acquire() : token;
+    }
+
+    /**
+     * Checks once the context has started, before any runner, that every pooled token belongs to
+     * the same account. All calls are user-scoped, so a random pick of another account's token
+     * would read and write that account's repositories.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void verifyCredentialPool() {
+        if (credentialPool.size() > 1) {
+            credentialPool.verifySameAccount(this::resolveLogin);
+        }
+    }
+
+    private String resolveLogin(String bearerToken) {
+        RequestSpecification request = authorizedRequest(bearerToken);
+        Response response = execute(bearerToken, "GET", USER_TEMPLATE, () -> request.get("/user"));
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("GET /user failed with status " + response.getStatusCode()
+                + " for pooled token " + TokenFingerprint.of(bearerToken));
+        }
+        return getUserProfileAsObject(response).getLogin();
+    }
+
+    /**
+     * Starts a request from the shared pooled base spec and adds the bearer token.
+     */
+    RequestSpecification authorizedRequest(String bearerToken) {
+        return given()
+            .spec(requestSpec)
+            .header("Authorization", "Bearer " + bearerToken);
     }
 
     /**
@@ -46,12 +221,10 @@ public class GitHubApiClient {
         String endpoint = "/user";
         String requestBody = null;  // GET typically has no request body
 
-        RequestSpecification request = given()
-            .baseUri(baseUrl)
-            .header("Authorization", "Bearer " + token)
-            .header("Accept", "application/vnd.github.v3+json");
+        String bearerToken = selectToken();
+        RequestSpecification request = authorizedRequest(bearerToken);
 
-        Response response = request.get(endpoint);
+        Response response = executeGet(bearerToken, USER_TEMPLATE, baseUrl + endpoint, null, request, endpoint);
         logRequestAndResponse(test, method, baseUrl + endpoint, requestBody, request, response);
         return response;
     }
@@ -63,6 +236,13 @@ public class GitHubApiClient {
         return response.as(UserProfile.class);
     }
 
+    /**
+     * Returns the user profile from GET /user, revalidating any cached copy with If-None-Match.
+     */
+    public UserProfile getUserProfile(ExtentTest test) {
+        return conditionalGet("/user", test, this::getUserProfileAsObject);
+    }
+
     /**
      * Retrieves the raw Response for GET /user/repos.
      */
@@ -71,12 +251,10 @@ public class GitHubApiClient {
         String endpoint = "/user/repos";
         String requestBody = null;
 
-        RequestSpecification request = given()
-            .baseUri(baseUrl)
-            .header("Authorization", "Bearer " + token)
-            .header("Accept", "application/vnd.github.v3+json");
+        String bearerToken = selectToken();
+        RequestSpecification request = authorizedRequest(bearerToken);
 
-        Response response = request.get(endpoint);
+        Response response = executeGet(bearerToken, REPOS_TEMPLATE, baseUrl + endpoint, null, request, endpoint);
         logRequestAndResponse(test, method, baseUrl + endpoint, requestBody, request, response);
         return response;
     }
@@ -85,7 +263,225 @@ public class GitHubApiClient {
      * Converts the Response from GET /user/repos into a List<Repository>.
      */
     public List<Repository> listRepositoriesAsObjects(Response response) {
-        return response.jsonPath().getList("$", Repository.class);
+        return RepositoryJsonReader.readList(response.asInputStream());
+    }
+
+    /**
+     * Streams the repositories in a GET /user/repos Response to the consumer one at a time,
+     * without building an intermediate JSON tree or list.
+     */
+    public void forEachRepository(Response response, Consumer<Repository> consumer) {
+        RepositoryJsonReader.read(response.asInputStream(), consumer);
+    }
+
+    /**
+     * Returns the first page of GET /user/repos, revalidating any cached copy with If-None-Match.
+     */
+    public List<Repository> listRepositories(ExtentTest test) {
+        return conditionalGet("/user/repos", test, response -> List.copyOf(listRepositoriesAsObjects(response)));
+    }
+
+    /**
+     * Sends a GET with the cached ETag (if any) and serves the cached model on 304 Not Modified.
+     * GitHub does not count 304 responses against the rate limit. On a memory miss the ETag and body
+     * may come from the disk cache, which is only parsed once GitHub confirms it is current.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T conditionalGet(String endpoint, ExtentTest test, Function<Response, T> mapper) {
+        String url = baseUrl + endpoint;
+        String bearerToken = selectToken();
+        String cacheKey = ConditionalRequestCache.key(url, bearerToken);
+        ConditionalRequestCache.CachedResponse cached = responseCache.get(cacheKey);
+        DiskResponseCache.Entry stored = cached == null ? diskCache.get(cacheKey) : null;
+        String etag = cached != null ? cached.etag() : stored != null ? stored.etag() : null;
+
+        RequestSpecification request = authorizedRequest(bearerToken);
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+
+        Response response = executeGet(bearerToken, endpoint, url, etag, request, endpoint);
+        logRequestAndResponse(test, "GET", url, (String) null, request, response);
+
+        int statusCode = response.getStatusCode();
+        if (statusCode == 304 && cached != null) {
+            return (T) cached.value();
+        }
+        if (statusCode == 304 && stored != null) {
+            T value = mapper.apply(stored.toResponse());
+            responseCache.put(cacheKey, stored.etag(), value);
+            return value;
+        }
+        if (statusCode != 200) {
+            throw new IllegalStateException("GET " + endpoint + " failed with status " + statusCode);
+        }
+
+        T value = mapper.apply(response);
+        String responseEtag = response.getHeader("ETag");
+        if (responseEtag != null) {
+            responseCache.put(cacheKey, responseEtag, value);
+            diskCache.put(cacheKey, responseEtag, response.asByteArray());
+        }
+        return value;
+    }
+
+    /**
+     * Streams every repository of the authenticated user across all pages of GET /user/repos.
+     * Close the stream when abandoning it early so the prefetched page is cancelled.
+     */
+    public Stream<Repository> streamRepositories(ExtentTest test) {
+        RepositoryPageIterator iterator = iterateRepositories(test);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+            .onClose(iterator::close);
+    }
+
+    /**
+     * Iterates GET /user/repos with per_page=100, fetching page N+1 while page N is consumed.
+     */
+    public RepositoryPageIterator iterateRepositories(ExtentTest test) {
+        String firstPageUrl = baseUrl + "/user/repos?per_page=" + REPOSITORY_PAGE_SIZE;
+        return new RepositoryPageIterator(firstPageUrl, url -> fetchRepositoryPage(url, test), requestExecutor);
+    }
+
+    /**
+     * Loads every page of GET /user/repos into a columnar RepositoryTable, which for accounts with
+     * tens of thousands of repositories takes a fraction of the heap of a {@code List<Repository>}.
+     * Pages are read one after another, each straight into the table.
+     */
+    public RepositoryTable loadRepositoryTable(ExtentTest test) {
+        RepositoryTable table = new RepositoryTable();
+        String url = baseUrl + "/user/repos?per_page=" + REPOSITORY_PAGE_SIZE;
+        while (url != null) {
+            Response response = fetchRepositoryPageResponse(url, test);
+            listRepositoriesInto(response, table);
+            url = RepositoryPageIterator.nextPageUrl(response.getHeader("Link"));
+        }
+        table.trimToSize();
+        return table;
+    }
+
+    /**
+     * Adds the repositories in a GET /user/repos Response to the table.
+     */
+    public void listRepositoriesInto(Response response, RepositoryTable table) {
+        RepositoryJsonReader.read(response.asInputStream(), table);
+    }
+
+    private RepositoryPageIterator.Page fetchRepositoryPage(String url, ExtentTest test) {
+        Response response = fetchRepositoryPageResponse(url, test);
+        return new RepositoryPageIterator.Page(
+            listRepositoriesAsObjects(response),
+            RepositoryPageIterator.nextPageUrl(response.getHeader("Link"))
+        );
+    }
+
+    private Response fetchRepositoryPageResponse(String url, ExtentTest test) {
+        String bearerToken = selectToken();
+        RequestSpecification request = authorizedRequest(bearerToken);
+
+        Response response = executeGet(bearerToken, REPOS_TEMPLATE, url, null, request, url);
+        logRequestAndResponse(test, "GET", url, (String) null, request, response);
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException(
+                "Listing repositories failed with status " + response.getStatusCode() + " for " + url);
+        }
+        return response;
+    }
+
+    /**
+     * Brings the repository index up to date. The first call loads every page of GET /user/repos
+     * with affiliation=owner, since the index is keyed by bare name and repositories of other
+     * owners could share one; later calls ask for the listing sorted by updated_at, newest first, with the first page's
+     * ETag. A 304 costs no rate limit and means nothing changed; otherwise repositories are
+     * upserted until the first one updated before the newest updated_at the previous sync saw, and
+     * further pages are only fetched while no such repository was reached. Entries written through
+     * by creates or webhooks do not move that mark, so they cannot hide older remote changes.
+     * Deletions made outside this client are not noticed; use {@link #rebuildRepositoryIndex} for that.
+     */
+    public RepositoryIndex.SyncResult syncRepositoryIndex(ExtentTest test) {
+        synchronized (repositoryIndex) {
+            if (!repositoryIndex.isSynced()) {
+                return fullRepositoryIndexSync(test);
+            }
+
+            String url = baseUrl + SORTED_REPOS_ENDPOINT;
+            String etag = repositoryIndex.getFirstPageEtag();
+            int requests = 0;
+            int updated = 0;
+            List<Repository> seen = new ArrayList<>();
+            while (url != null) {
+                Response response = fetchSortedRepositoryPage(url, requests == 0 ? etag : null, test);
+                requests++;
+                if (response.getStatusCode() == 304) {
+                    return new RepositoryIndex.SyncResult(requests, 0, true);
+                }
+                if (requests == 1) {
+                    etag = response.getHeader("ETag");
+                }
+
+                boolean reachedSynced = false;
+                for (Repository repository : listRepositoriesAsObjects(response)) {
+                    if (repositoryIndex.isOlderThanLastSync(repository)) {
+                        reachedSynced = true;
+                        break;
+                    }
+                    if (!repositoryIndex.isCurrent(repository)) {
+                        updated++;
+                    }
+                    repositoryIndex.put(repository);
+                    seen.add(repository);
+                }
+                url = reachedSynced ? null : RepositoryPageIterator.nextPageUrl(response.getHeader("Link"));
+            }
+            repositoryIndex.markSynced(etag, seen);
+            return new RepositoryIndex.SyncResult(requests, updated, false);
+        }
+    }
+
+    /**
+     * Drops the repository index and loads the full listing again, which also removes repositories
+     * deleted outside this client.
+     */
+    public RepositoryIndex.SyncResult rebuildRepositoryIndex(ExtentTest test) {
+        synchronized (repositoryIndex) {
+            repositoryIndex.clear();
+            return fullRepositoryIndexSync(test);
+        }
+    }
+
+    private RepositoryIndex.SyncResult fullRepositoryIndexSync(ExtentTest test) {
+        List<Repository> repositories = new ArrayList<>();
+        String url = baseUrl + SORTED_REPOS_ENDPOINT;
+        String etag = null;
+        int requests = 0;
+        while (url != null) {
+            Response response = fetchSortedRepositoryPage(url, null, test);
+            if (requests++ == 0) {
+                etag = response.getHeader("ETag");
+            }
+            forEachRepository(response, repositories::add);
+            url = RepositoryPageIterator.nextPageUrl(response.getHeader("Link"));
+        }
+        repositoryIndex.replaceAll(repositories, etag);
+        return new RepositoryIndex.SyncResult(requests, repositories.size(), false);
+    }
+
+    private Response fetchSortedRepositoryPage(String url, String etag, ExtentTest test) {
+        String bearerToken = selectToken();
+        RequestSpecification request = authorizedRequest(bearerToken);
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+
+        Response response = executeGet(bearerToken, REPOS_TEMPLATE, url, etag, request, url);
+        logRequestAndResponse(test, "GET", url, (String) null, request, response);
+        if (response.getStatusCode() != 200 && response.getStatusCode() != 304) {
+            throw new IllegalStateException(
+                "Syncing the repository index failed with status " + response.getStatusCode() + " for " + url);
+        }
+        return response;
     }
 
     /**
@@ -94,20 +490,14 @@ public class GitHubApiClient {
     public Response createIssueResponse(String owner, String repo, String title, String bodyText, ExtentTest test) {
         String method = "POST";
         String endpoint = String.format("/repos/%s/%s/issues", owner, repo);
+        JsonBody requestBody = RequestBodyWriter.write(new CreateIssueRequest(title, bodyText));
 
-        JSONObject issueDetails = new JSONObject();
-        issueDetails.put("title", title);
-        issueDetails.put("body", bodyText);
-
-        String requestBody = issueDetails.toString();
-
-        RequestSpecification request = given()
-            .header("Authorization", "Bearer " + token)
-            .header("Accept", "application/vnd.github.v3+json")
+        String bearerToken = selectToken();
+        RequestSpecification request = authorizedRequest(bearerToken)
             .contentType("application/json")
-            .body(requestBody);
+            .body(requestBody.bytes());
 
-        Response response = request.post(baseUrl + endpoint);
+        Response response = execute(bearerToken, "POST", ISSUES_TEMPLATE, () -> request.post(endpoint));
         logRequestAndResponse(test, method, baseUrl + endpoint, requestBody, request, response);
         return response;
     }
@@ -119,6 +509,22 @@ public class GitHubApiClient {
         return new JSONObject(response.asString());
     }
 
+    /**
+     * Returns the raw Response for GET /repos/{owner}/{repo}/issues?state=open (first 100 issues).
+     */
+    public Response listOpenIssuesResponse(String owner, String repo, ExtentTest test) {
+        String method = "GET";
+        String endpoint = String.format("/repos/%s/%s/issues?state=open&per_page=100", owner, repo);
+        String requestBody = null;
+
+        String bearerToken = selectToken();
+        RequestSpecification request = authorizedRequest(bearerToken);
+
+        Response response = executeGet(bearerToken, ISSUES_TEMPLATE, baseUrl + endpoint, null, request, endpoint);
+        logRequestAndResponse(test, method, baseUrl + endpoint, requestBody, request, response);
+        return response;
+    }
+
     /**
      * Returns the raw Response from POST /user/repos.
      */
@@ -126,19 +532,18 @@ public class GitHubApiClient {
         String method = "POST";
         String endpoint = "/user/repos";
 
-        String payload = String.format(
-            "{\"name\":\"%s\",\"description\":\"%s\",\"private\":%b}",
-            name, description, isPrivate
-        );
+        JsonBody payload = RequestBodyWriter.write(new CreateRepositoryRequest(name, description, isPrivate));
 
-        RequestSpecification request = given()
-            .header("Authorization", "Bearer " + token)
-            .header("Accept", "application/vnd.github.v3+json")
+        String bearerToken = selectToken();
+        RequestSpecification request = authorizedRequest(bearerToken)
             .contentType("application/json")
-            .body(payload);
+            .body(payload.bytes());
 
-        Response response = request.post(baseUrl + endpoint);
+        Response response = execute(bearerToken, "POST", REPOS_TEMPLATE, () -> request.post(endpoint));
         logRequestAndResponse(test, method, baseUrl + endpoint, payload, request, response);
+        if (response.getStatusCode() == 201) {
+            repositoryIndex.put(RepositoryJsonReader.readOne(response.asInputStream()));
+        }
         return response;
     }
 
@@ -157,15 +562,156 @@ public class GitHubApiClient {
         String endpoint = String.format("/repos/%s/%s", defaultOwner, repoName);
         String requestBody = null;
 
-        RequestSpecification request = given()
-            .header("Authorization", "Bearer " + token)
-            .header("Accept", "application/vnd.github.v3+json");
+        String bearerToken = selectToken();
+        RequestSpecification request = authorizedRequest(bearerToken);
 
-        Response response = request.delete(baseUrl + endpoint);
+        Response response = execute(bearerToken, "DELETE", REPO_TEMPLATE, () -> request.delete(endpoint));
         logRequestAndResponse(test, method, baseUrl + endpoint, requestBody, request, response);
+        if (response.getStatusCode() == 204 || response.getStatusCode() == 404) {
+            repositoryIndex.remove(repoName);
+        }
         return response;
     }
 
+    /**
+     * Deletes many repositories in parallel, at most github.bulk.parallelism at a time, and
+     * logs one aggregated summary instead of a request/response dump per repository.
+     */
+    public BulkDeleteSummary deleteRepositories(Collection<String> repoNames, ExtentTest test) {
+        List<String> names = List.copyOf(repoNames);
+        List<CompletableFuture<Response>> deletions = submitBounded(names, repoName -> {
+            String endpoint = String.format("/repos/%s/%s", defaultOwner, repoName);
+            String bearerToken = selectToken();
+            RequestSpecification request = authorizedRequest(bearerToken);
+            return execute(bearerToken, "DELETE", REPO_TEMPLATE, () -> request.delete(endpoint));
+        });
+
+        List<String> deleted = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+        Map<String, String> failed = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String repoName = names.get(i);
+            try {
+                int statusCode = deletions.get(i).join().getStatusCode();
+                if (statusCode == 204) {
+                    deleted.add(repoName);
+                    repositoryIndex.remove(repoName);
+                } else if (statusCode == 404) {
+                    notFound.add(repoName);
+                    repositoryIndex.remove(repoName);
+                } else {
+                    failed.put(repoName, "status " + statusCode);
+                }
+            } catch (CompletionException e) {
+                failed.put(repoName, String.valueOf(e.getCause()));
+            }
+        }
+
+        BulkDeleteSummary summary = new BulkDeleteSummary(deleted, notFound, failed);
+        if (test != null) {
+            test.log(summary.hasFailures() ? Status.WARNING : Status.INFO, MarkupHelper.createCodeBlock(summary.toReport()));
+        }
+        return summary;
+    }
+
+    /**
+     * Creates many issues in owner/repo, at most github.bulk.parallelism at a time, and logs one
+     * compact summary. Results are in the order of {@code issues}.
+     */
+    public BulkIssueSummary createIssues(String owner, String repo, List<CreateIssueRequest> issues, ExtentTest test) {
+        List<CompletableFuture<Response>> creations = submitBounded(issues,
+            issue -> createIssueResponse(owner, repo, issue.title(), issue.body(), null));
+
+        List<BulkIssueResult> results = new ArrayList<>(issues.size());
+        for (int i = 0; i < issues.size(); i++) {
+            String item = "\"" + issues.get(i).title() + "\"";
+            results.add(bulkIssueResult(item, creations.get(i), response -> response.getStatusCode() == 201
+                ? issueNumber(response) : null));
+        }
+        return logBulkIssueSummary(new BulkIssueSummary("create", owner + "/" + repo, results), test);
+    }
+
+    /**
+     * Closes many issues in owner/repo, at most github.bulk.parallelism at a time, and logs one
+     * compact summary. Results are in the order of {@code issueNumbers}.
+     */
+    public BulkIssueSummary closeIssues(String owner, String repo, List<Integer> issueNumbers, ExtentTest test) {
+        List<CompletableFuture<Response>> closings = submitBounded(issueNumbers,
+            number -> closeIssueResponse(owner, repo, String.valueOf(number), null));
+
+        List<BulkIssueResult> results = new ArrayList<>(issueNumbers.size());
+        for (int i = 0; i < issueNumbers.size(); i++) {
+            Integer number = issueNumbers.get(i);
+            results.add(bulkIssueResult("#" + number, closings.get(i), response -> number));
+        }
+        return logBulkIssueSummary(new BulkIssueSummary("close", owner + "/" + repo, results), test);
+    }
+
+    /**
+     * Runs the call for every item on the request executor with at most github.bulk.parallelism
+     * in flight; each request still passes the rate-limit scheduler. Futures are in item order.
+     */
+    private <I> List<CompletableFuture<Response>> submitBounded(List<I> items, Function<I, Response> call) {
+        Semaphore permits = new Semaphore(bulkParallelism);
+        List<CompletableFuture<Response>> futures = new ArrayList<>(items.size());
+        for (I item : items) {
+            acquire(permits);
+            CompletableFuture<Response> future = requestExecutor.submit(() -> call.apply(item));
+            future.whenComplete((response, error) -> permits.release());
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    /**
+     * Reads "number" from an issue body with the streaming parser, without building a tree;
+     * null when the body has none.
+     */
+    public static Integer issueNumber(Response response) {
+        try (JsonParser parser = JSON_FACTORY.createParser(response.asByteArray())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                parser.nextToken();
+                if ("number".equals(field)) {
+                    return parser.getIntValue();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read issue number", e);
+        }
+    }
+
+    private static BulkIssueResult bulkIssueResult(String item, CompletableFuture<Response> future,
+                                                   Function<Response, Integer> number) {
+        try {
+            Response response = future.join();
+            return new BulkIssueResult(item, response.getStatusCode(), number.apply(response), null);
+        } catch (CompletionException e) {
+            return new BulkIssueResult(item, 0, null, String.valueOf(e.getCause()));
+        }
+    }
+
+    private static BulkIssueSummary logBulkIssueSummary(BulkIssueSummary summary, ExtentTest test) {
+        if (test != null) {
+            test.log(summary.hasFailures() ? Status.WARNING : Status.INFO, MarkupHelper.createCodeBlock(summary.toReport()));
+        }
+        return summary;
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scheduling bulk requests", e);
+        }
+    }
+
     /**
      * Simulates an unauthorized deletion call using INVALID_TOKEN.
      */
@@ -176,12 +722,9 @@ public class GitHubApiClient {
 
         test.log(Status.INFO, "Attempting to delete repository without authorization: " + repoName);
 
-        RequestSpecification request = given()
-            .baseUri(baseUrl)
-            .header("Authorization", "Bearer INVALID_TOKEN")
-            .header("Accept", "application/vnd.github.v3+json");
+        RequestSpecification request = authorizedRequest(INVALID_TOKEN);
 
-        Response response = request.delete(baseUrl + endpoint);
+        Response response = execute(INVALID_TOKEN, "DELETE", REPO_TEMPLATE, () -> request.delete(endpoint));
         logRequestAndResponse(test, method, baseUrl + endpoint, requestBody, request, response);
         return response;
     }
@@ -193,27 +736,22 @@ public class GitHubApiClient {
         String method = "POST";
         String endpoint = "/user/repos";
 
-        String payload = String.format(
-            "{\"name\":\"%s\",\"description\":\"Repository created without authorization\",\"private\":false}",
-            repoName
-        );
+        JsonBody payload = RequestBodyWriter.write(
+            new CreateRepositoryRequest(repoName, "Repository created without authorization", false));
 
         test.log(Status.INFO, "Attempting to create repository without authorization: " + repoName);
 
-        RequestSpecification request = given()
-            .baseUri(baseUrl)
-            .header("Authorization", "Bearer INVALID_TOKEN")
-            .header("Accept", "application/vnd.github.v3+json")
+        RequestSpecification request = authorizedRequest(INVALID_TOKEN)
             .contentType("application/json")
-            .body(payload);
+            .body(payload.bytes());
 
-        Response response = request.post(baseUrl + endpoint);
+        Response response = execute(INVALID_TOKEN, "POST", REPOS_TEMPLATE, () -> request.post(endpoint));
         logRequestAndResponse(test, method, baseUrl + endpoint, payload, request, response);
         return response;
     }
 
     /**
-     * Logs request/response details into a single code block in Extent.
+     * Queues request/response details for a single code block in Extent.
      */
     private void logRequestAndResponse(
         ExtentTest test,
@@ -223,20 +761,21 @@ public class GitHubApiClient {
         RequestSpecification requestSpec,
         Response response
     ) {
-        String finalRequestBody = (requestBody == null) ? "No body" : requestBody;
-        int statusCode = response.getStatusCode();
-        String responseBody = response.prettyPrint();
-
-        StringBuilder logBuilder = new StringBuilder()
-            .append("Request:\n")
-            .append("Method: ").append(method).append("\n")
-            .append("URI: ").append(uri).append("\n")
-            .append("Body:\n").append(finalRequestBody).append("\n\n")
-            .append("Response:\n")
-            .append("Status Code: ").append(statusCode).append("\n")
-            .append("Body:\n").append(responseBody);
+        requestLog.submit(test, method, uri, requestBody, response);
+    }
 
-        test.info(MarkupHelper.createCodeBlock(logBuilder.toString()));
+    /**
+     * Same as above for a serialized body, which is only decoded to text when there is a test to log to.
+     */
+    private void logRequestAndResponse(
+        ExtentTest test,
+        String method,
+        String uri,
+        JsonBody requestBody,
+        RequestSpecification requestSpec,
+        Response response
+    ) {
+        logRequestAndResponse(test, method, uri, test == null ? null : requestBody.toString(), requestSpec, response);
     }
 
     /**
@@ -246,22 +785,15 @@ public class GitHubApiClient {
         String method = "POST";
         String endpoint = String.format("/repos/%s/%s/issues", owner, repo);
 
-        JSONObject issueDetails = new JSONObject();
-        issueDetails.put("title", title);
-        issueDetails.put("body", bodyText);
-
-        String requestBody = issueDetails.toString();
+        JsonBody requestBody = RequestBodyWriter.write(new CreateIssueRequest(title, bodyText));
 
         test.log(Status.INFO, "Attempting to create issue without authorization: " + title);
 
-        RequestSpecification request = given()
-            .baseUri(baseUrl)
-            .header("Authorization", "Bearer INVALID_TOKEN")
-            .header("Accept", "application/vnd.github.v3+json")
+        RequestSpecification request = authorizedRequest(INVALID_TOKEN)
             .contentType("application/json")
-            .body(requestBody);
+            .body(requestBody.bytes());
 
-        Response response = request.post(baseUrl + endpoint);
+        Response response = execute(INVALID_TOKEN, "POST", ISSUES_TEMPLATE, () -> request.post(endpoint));
         logRequestAndResponse(test, method, baseUrl + endpoint, requestBody, request, response);
         return response;
     }
@@ -270,19 +802,78 @@ public class GitHubApiClient {
         String method = "PATCH";
         String endpoint = String.format("/repos/%s/%s/issues/%s", owner, repo, issueNumber);
 
-        JSONObject issueDetails = new JSONObject();
-        issueDetails.put("state", "closed");
-
-        String requestBody = issueDetails.toString();
+        JsonBody requestBody = RequestBodyWriter.write(UpdateIssueRequest.close());
 
-        RequestSpecification request = given()
-            .header("Authorization", "Bearer " + token)
-            .header("Accept", "application/vnd.github.v3+json")
+        String bearerToken = selectToken();
+        RequestSpecification request = authorizedRequest(bearerToken)
             .contentType("application/json")
-            .body(requestBody);
+            .body(requestBody.bytes());
 
-        Response response = request.patch(baseUrl + endpoint);
+        // Setting state=closed is safe to repeat, so this PATCH is retried like a GET
+        Response response = execute(bearerToken, "PATCH", ISSUE_TEMPLATE, true, () -> request.patch(endpoint));
         logRequestAndResponse(test, method, baseUrl + endpoint, requestBody, request, response);
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * Async counterpart of getUserProfileResponse, run on a virtual thread.
+     */
+    public CompletableFuture<Response> getUserProfileResponseAsync(ExtentTest test) {
+        return requestExecutor.submit(() -> getUserProfileResponse(test));
+    }
+
+    /**
+     * Async counterpart of getUserProfile, run on a virtual thread.
+     */
+    public CompletableFuture<UserProfile> getUserProfileAsync(ExtentTest test) {
+        return requestExecutor.submit(() -> getUserProfile(test));
+    }
+
+    /**
+     * Async counterpart of listRepositoriesResponse, run on a virtual thread.
+     */
+    public CompletableFuture<Response> listRepositoriesResponseAsync(ExtentTest test) {
+        return requestExecutor.submit(() -> listRepositoriesResponse(test));
+    }
+
+    /**
+     * Async counterpart of listRepositories, run on a virtual thread.
+     */
+    public CompletableFuture<List<Repository>> listRepositoriesAsync(ExtentTest test) {
+        return requestExecutor.submit(() -> listRepositories(test));
+    }
+
+    /**
+     * Async counterpart of createRepositoryResponse, run on a virtual thread.
+     */
+    public CompletableFuture<Response> createRepositoryResponseAsync(
+        String name, String description, boolean isPrivate, ExtentTest test
+    ) {
+        return requestExecutor.submit(() -> createRepositoryResponse(name, description, isPrivate, test));
+    }
+
+    /**
+     * Async counterpart of deleteRepositoryResponse, run on a virtual thread.
+     */
+    public CompletableFuture<Response> deleteRepositoryResponseAsync(String repoName, ExtentTest test) {
+        return requestExecutor.submit(() -> deleteRepositoryResponse(repoName, test));
+    }
+
+    /**
+     * Async counterpart of createIssueResponse, run on a virtual thread.
+     */
+    public CompletableFuture<Response> createIssueResponseAsync(
+        String owner, String repo, String title, String bodyText, ExtentTest test
+    ) {
+        return requestExecutor.submit(() -> createIssueResponse(owner, repo, title, bodyText, test));
+    }
+
+    /**
+     * Async counterpart of closeIssueResponse, run on a virtual thread.
+     */
+    public CompletableFuture<Response> closeIssueResponseAsync(
+        String owner, String repo, String issueNumber, ExtentTest test
+    ) {
+        return requestExecutor.submit(() -> closeIssueResponse(owner, repo, issueNumber, test));
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Per-endpoint client metrics: a latency timer and a response counter tagged by HTTP method,
+ * endpoint template and status, plus a gauge of requests currently on the wire.
+ */
+@Component
+public class GitHubClientMetrics {
+
+    public static final String REQUESTS = "github.client.requests";
+    public static final String RESPONSES = "github.client.responses";
+    public static final String IN_FLIGHT = "github.client.requests.in.flight";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GitHubClientMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public GitHubClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(IN_FLIGHT, inFlight, AtomicInteger::get)
+            .description("GitHub API requests sent and not yet answered")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Times one HTTP exchange and records it under the endpoint template, so
+     * {@code /repos/{owner}/{repo}} aggregates across repositories instead of one series each.
+     */
+    public Response record(String method, String uriTemplate, Supplier<Response> call) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            Response response = call.get();
+            status = String.valueOf(response.getStatusCode());
+            return response;
+        } finally {
+            inFlight.decrementAndGet();
+            Meters endpointMeters = meters.computeIfAbsent(new MeterKey(method, uriTemplate, status), this::register);
+            endpointMeters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            endpointMeters.counter().increment();
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private Meters register(MeterKey key) {
+        Tags tags = Tags.of("method", key.method(), "uri", key.uriTemplate(), "status", key.status(),
+            "outcome", outcome(key.status()));
+        Timer timer = Timer.builder(REQUESTS)
+            .description("Latency of GitHub API requests")
+            .tags(tags)
+            .publishPercentiles(0.5, 0.9, 0.99)
+            .register(meterRegistry);
+        Counter counter = Counter.builder(RESPONSES)
+            .description("GitHub API responses by endpoint and status code")
+            .tags(tags)
+            .register(meterRegistry);
+        return new Meters(timer, counter);
+    }
+
+    private static String outcome(String status) {
+        return switch (status.charAt(0)) {
+            case '1' -> "INFORMATIONAL";
+            case '2' -> "SUCCESS";
+            case '3' -> "REDIRECTION";
+            case '4' -> "CLIENT_ERROR";
+            case '5' -> "SERVER_ERROR";
+            default -> "UNKNOWN";
+        };
+    }
+
+    private record MeterKey(String method, String uriTemplate, String status) {
+    }
+
+    private record Meters(Timer timer, Counter counter) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.service;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.model.Repository;
+import com.github.model.UserProfile;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fetches the viewer's profile and a page of their repositories in one GraphQL request,
+ * selecting only the fields UserProfile and Repository hold. Like REST {@code GET /user/repos},
+ * the page covers repositories the viewer owns, collaborates on or reaches through an
+ * organization; they come sorted by name rather than REST's owner/name order. Requests go through
+ * GitHubApiClient's pipeline, so they share its token, rate limiting, metrics and logging.
+ */
+@Service
+public class GitHubGraphQlClient {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    static final String VIEWER_QUERY = """
+        query($first: Int!, $after: String) {
+          viewer {
+            login
+            databaseId
+            name
+            repositories(first: $first, after: $after, ownerAffiliations: [OWNER, COLLABORATOR, ORGANIZATION_MEMBER], orderBy: {field: NAME, direction: ASC}) {
+              totalCount
+              pageInfo { hasNextPage endCursor }
+              nodes { databaseId name description isPrivate url updatedAt }
+            }
+          }
+        }
+        """;
+
+    private static final String ENDPOINT = "/graphql";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final GitHubApiClient client;
+
+    public GitHubGraphQlClient(GitHubApiClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Profile plus one page of repositories; pass the previous page's endCursor as {@code after}.
+     */
+    public ViewerSnapshot fetchViewer(int pageSize, String after, ExtentTest test) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("first", Math.min(Math.max(1, pageSize), MAX_PAGE_SIZE));
+        variables.put("after", after);
+        String payload = toJson(Map.of("query", VIEWER_QUERY, "variables", variables));
+
+        String token = client.selectToken();
+        RequestSpecification request = client.authorizedRequest(token)
+            .contentType("application/json")
+            .body(payload);
+        Response response = client.execute(token, "POST", ENDPOINT, () -> request.post(ENDPOINT));
+        client.getRequestLog().submit(test, "POST", client.getBaseUrl() + ENDPOINT, payload, response);
+
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("POST " + ENDPOINT + " failed with status " + response.getStatusCode());
+        }
+        return toSnapshot(response);
+    }
+
+    /**
+     * Profile and every repository, following endCursor one page of up to 100 at a time.
+     */
+    public ViewerSnapshot fetchViewerWithAllRepositories(ExtentTest test) {
+        ViewerSnapshot first = fetchViewer(MAX_PAGE_SIZE, null, test);
+        List<Repository> repositories = new ArrayList<>(first.repositories().nodes());
+        RepositoryConnection page = first.repositories();
+        while (page.hasNextPage()) {
+            page = fetchViewer(MAX_PAGE_SIZE, page.endCursor(), test).repositories();
+            repositories.addAll(page.nodes());
+        }
+        return new ViewerSnapshot(first.profile(),
+            new RepositoryConnection(List.copyOf(repositories), page.totalCount(), false, page.endCursor()));
+    }
+
+    private ViewerSnapshot toSnapshot(Response response) {
+        JsonNode root;
+        try {
+            root = MAPPER.readTree(response.asByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable GraphQL response", e);
+        }
+        JsonNode errors = root.path("errors");
+        if (errors.isArray() && !errors.isEmpty()) {
+            List<String> messages = new ArrayList<>();
+            errors.forEach(error -> messages.add(error.path("message").asText()));
+            throw new IllegalStateException("GraphQL query failed: " + String.join("; ", messages));
+        }
+
+        JsonNode viewer = root.path("data").path("viewer");
+        UserProfile profile = new UserProfile();
+        profile.setLogin(viewer.path("login").asText(null));
+        profile.setId(viewer.path("databaseId").isNumber() ? viewer.path("databaseId").asLong() : null);
+        profile.setName(viewer.path("name").asText(null));
+        // GraphQL only knows the HTML URL; keep the REST API URL UserProfile normally carries
+        profile.setUrl(profile.getLogin() == null ? null : client.getBaseUrl() + "/users/" + profile.getLogin());
+
+        JsonNode connection = viewer.path("repositories");
+        List<Repository> repositories = new ArrayList<>();
+        for (JsonNode node : connection.path("nodes")) {
+            Repository repository = new Repository();
+            repository.setId(node.path("databaseId").asLong());
+            repository.setName(node.path("name").asText(null));
+            repository.setDescription(node.path("description").isTextual() ? node.path("description").asText() : null);
+            repository.setPrivateRepo(node.path("isPrivate").asBoolean());
+            repository.setHtmlUrl(node.path("url").asText(null));
+            repository.setUpdatedAt(node.path("updatedAt").asText(null));
+            repositories.add(repository);
+        }
+        JsonNode pageInfo = connection.path("pageInfo");
+        return new ViewerSnapshot(profile, new RepositoryConnection(
+            List.copyOf(repositories),
+            connection.path("totalCount").asInt(repositories.size()),
+            pageInfo.path("hasNextPage").asBoolean(false),
+            pageInfo.path("endCursor").isTextual() ? pageInfo.path("endCursor").asText() : null));
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record ViewerSnapshot(UserProfile profile, RepositoryConnection repositories) {
+    }
+
+    public record RepositoryConnection(List<Repository> nodes, int totalCount, boolean hasNextPage, String endCursor) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.service;
+
+import com.github.config.GitHubProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs GitHub calls on virtual threads. Threads are free, so the only limit is a cap on
+ * requests in flight; tasks beyond it park cheaply until a permit is released.
+ */
+@Component
+public class GitHubRequestExecutor implements Executor {
+
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+
+    @Autowired
+    public GitHubRequestExecutor(GitHubProperties properties) {
+        this(properties.getAsync().getMaxInFlight());
+    }
+
+    public GitHubRequestExecutor(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight, true);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("github-request-", 0).factory());
+    }
+
+    /**
+     * Runs the call on a virtual thread once an in-flight permit is available.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            acquire();
+            try {
+                return call.get();
+            } finally {
+                inFlight.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Runs the call only if a permit is free now and no other task is queued for one; otherwise
+     * returns empty. For optional extra requests, such as hedges, that must not queue behind real work.
+     */
+    public <T> Optional<CompletableFuture<T>> trySubmit(Supplier<T> call) {
+        try {
+            if (!inFlight.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return Optional.empty();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call.get();
+                } finally {
+                    inFlight.release();
+                }
+            }, executor));
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submit(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Number of calls currently holding a permit.
+     */
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void acquire() {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight GitHub request slot", e);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.github.service;
+
+import com.github.config.GitHubProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Central gate for every GitHub call. Paces requests with a shared token bucket, tracks the
+ * remaining quota per credential from X-RateLimit-* headers and parks callers until the reset
+ * time (or Retry-After) instead of letting a whole parallel run fail with 403/429. GitHub counts
+ * that quota per account, so tokens assigned to an account with {@link #assignAccount} share one
+ * budget; any other token has a budget of its own.
+ */
+@Component
+public class RateLimitScheduler {
+
+    private static final long RESET_SKEW_MILLIS = 1_000;
+
+    private final boolean enabled;
+    private final int maxRetries;
+    private final long maxWaitMillis;
+    private final TokenBucket bucket;
+    private final Map<String, CredentialBudget> budgets = new ConcurrentHashMap<>();
+    // Token fingerprint to the account login its quota is counted against
+    private final Map<String, String> accounts = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong throttledNanos = new AtomicLong();
+    private final AtomicLong throttledCalls = new AtomicLong();
+    private final AtomicLong rateLimitedResponses = new AtomicLong();
+
+    @Autowired
+    public RateLimitScheduler(GitHubProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties.getRateLimit(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public RateLimitScheduler(GitHubProperties.RateLimit settings, MeterRegistry meterRegistry) {
+        this.enabled = settings.isEnabled();
+        this.maxRetries = settings.getMaxRetries();
+        this.maxWaitMillis = settings.getMaxWait().toMillis();
+        this.bucket = new TokenBucket(settings.getRequestsPerSecond(), settings.getBurst());
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("github.ratelimit.throttled.time", throttledNanos, nanos -> nanos.get() / 1_000_000_000.0)
+            .description("Total time callers spent parked by the rate-limit scheduler")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("github.ratelimit.throttled.calls", throttledCalls, AtomicLong::get)
+            .description("Number of calls that had to wait before being sent")
+            .register(meterRegistry);
+        Gauge.builder("github.ratelimit.limited.responses", rateLimitedResponses, AtomicLong::get)
+            .description("Number of 403/429 rate-limit responses that were parked and retried")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call once budget is available for the token, retrying after the reset time
+     * when GitHub still answers with a rate-limit error.
+     */
+    public Response execute(String token, Supplier<Response> call) {
+        CredentialBudget budget = budget(token);
+        if (!enabled) {
+            // Still read the quota headers so the remaining/reset gauges stay accurate
+            Response response = call.get();
+            budget.update(response);
+            return response;
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            park(budget.reserve());
+            park(bucket.reserve());
+
+            Response response = call.get();
+            budget.update(response);
+
+            if (!isRateLimited(response) || attempt >= maxRetries) {
+                return response;
+            }
+            rateLimitedResponses.incrementAndGet();
+        }
+    }
+
+    /**
+     * Claims budget for one extra request only if it can be sent right away, as a hedge must not
+     * park. The caller sends it without going through {@link #execute}.
+     */
+    public boolean tryReserve(String token) {
+        if (!enabled) {
+            return true;
+        }
+        return bucket.tryReserve() && budget(token).tryReserve();
+    }
+
+    /**
+     * Counts the token's requests against the account's budget from now on. A budget the token had
+     * of its own is dropped along with its gauges.
+     */
+    public void assignAccount(String token, String login) {
+        String fingerprint = TokenFingerprint.of(token);
+        accounts.put(fingerprint, login.toLowerCase(Locale.ROOT));
+        CredentialBudget own = budgets.remove(fingerprint);
+        if (own != null) {
+            own.meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    public long getThrottledMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(throttledNanos.get());
+    }
+
+    public long getThrottledCalls() {
+        return throttledCalls.get();
+    }
+
+    /**
+     * Last known remaining quota for a token's budget, or -1 if no response has been seen yet.
+     */
+    public long getRemaining(String token) {
+        CredentialBudget budget = budgets.get(budgetKey(token));
+        return budget == null ? -1 : budget.remaining;
+    }
+
+    /**
+     * Last known reset time (epoch millis) for a token's budget, or 0 if unknown.
+     */
+    public long getResetEpochMillis(String token) {
+        CredentialBudget budget = budgets.get(budgetKey(token));
+        return budget == null ? 0 : budget.resetEpochMillis;
+    }
+
+    private CredentialBudget budget(String token) {
+        return budgets.computeIfAbsent(budgetKey(token), this::newBudget);
+    }
+
+    /**
+     * The account login assigned to the token, or else its fingerprint.
+     */
+    private String budgetKey(String token) {
+        String fingerprint = TokenFingerprint.of(token);
+        return accounts.getOrDefault(fingerprint, fingerprint);
+    }
+
+    /**
+     * New budget with remaining/reset gauges tagged by its key, an account login or a fingerprint.
+     */
+    private CredentialBudget newBudget(String key) {
+        CredentialBudget budget = new CredentialBudget();
+        Tags tags = Tags.of("credential", key);
+        budget.meters.add(Gauge.builder("github.ratelimit.remaining", budget, b -> b.remaining)
+            .description("Remaining requests in the current rate-limit window, -1 until GitHub reports it")
+            .tags(tags)
+            .register(meterRegistry));
+        budget.meters.add(Gauge.builder("github.ratelimit.reset", budget, b -> b.resetEpochMillis / 1000.0)
+            .description("Epoch time at which the current rate-limit window resets")
+            .baseUnit("seconds")
+            .tags(tags)
+            .register(meterRegistry));
+        return budget;
+    }
+
+    private static boolean isRateLimited(Response response) {
+        int statusCode = response.getStatusCode();
+        if (statusCode == 429) {
+            return true;
+        }
+        return statusCode == 403
+            && (response.getHeader("Retry-After") != null || "0".equals(response.getHeader("X-RateLimit-Remaining")));
+    }
+
+    private void park(long waitNanos) {
+        if (waitNanos <= 0) {
+            return;
+        }
+        long cappedNanos = Math.min(waitNanos, TimeUnit.MILLISECONDS.toNanos(maxWaitMillis));
+        throttledCalls.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            TimeUnit.NANOSECONDS.sleep(cappedNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for GitHub rate limit", e);
+        } finally {
+            throttledNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Quota state for one account (or unassigned token) as reported by the most recent response.
+     */
+    private static final class CredentialBudget {
+        private final List<Meter> meters = new ArrayList<>(2);
+        private volatile long remaining = -1;
+        private volatile long resetEpochMillis;
+        private volatile long retryAfterEpochMillis;
+
+        /**
+         * Claims one request from the known budget and returns how long to wait before sending it.
+         */
+        synchronized long reserve() {
+            long now = System.currentTimeMillis();
+            long waitUntil = retryAfterEpochMillis;
+            if (remaining == 0 && resetEpochMillis > now) {
+                waitUntil = Math.max(waitUntil, resetEpochMillis + RESET_SKEW_MILLIS);
+            } else if (remaining > 0) {
+                remaining--;
+            }
+            return waitUntil > now ? TimeUnit.MILLISECONDS.toNanos(waitUntil - now) : 0;
+        }
+
+        /**
+         * Claims one request only if it needs no wait.
+         */
+        synchronized boolean tryReserve() {
+            long now = System.currentTimeMillis();
+            if (retryAfterEpochMillis > now || (remaining == 0 && resetEpochMillis > now)) {
+                return false;
+            }
+            if (remaining > 0) {
+                remaining--;
+            }
+            return true;
+        }
+
+        synchronized void update(Response response) {
+            String remainingHeader = response.getHeader("X-RateLimit-Remaining");
+            String resetHeader = response.getHeader("X-RateLimit-Reset");
+            String retryAfterHeader = response.getHeader("Retry-After");
+            try {
+                if (remainingHeader != null) {
+                    remaining = Long.parseLong(remainingHeader.trim());
+                }
+                if (resetHeader != null) {
+                    resetEpochMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(resetHeader.trim()));
+                }
+                if (retryAfterHeader != null) {
+                    retryAfterEpochMillis = System.currentTimeMillis()
+                        + TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfterHeader.trim()));
+                }
+            } catch (NumberFormatException ignored) {
+                // Malformed headers leave the previous budget in place.
+            }
+        }
+    }
+
+    /**
+     * Shared token bucket. Callers that find it empty go into debt and are told how long to
+     * sleep, so waiting happens outside the lock and callers are released in arrival order.
+     */
+    private static final class TokenBucket {
+        private final double nanosPerPermit;
+        private final double capacity;
+        private double permits;
+        private long lastRefillNanos;
+
+        TokenBucket(double permitsPerSecond, int burst) {
+            this.nanosPerPermit = permitsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / permitsPerSecond : 0;
+            this.capacity = Math.max(1, burst);
+            this.permits = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized long reserve() {
+            if (nanosPerPermit == 0) {
+                return 0;
+            }
+            refill();
+            long waitNanos = permits >= 1 ? 0 : (long) ((1 - permits) * nanosPerPermit);
+            permits -= 1;
+            return waitNanos;
+        }
+
+        /**
+         * Takes a permit only if one is available now, never going into debt.
+         */
+        synchronized boolean tryReserve() {
+            if (nanosPerPermit == 0) {
+                return true;
+            }
+            refill();
+            if (permits < 1) {
+                return false;
+            }
+            permits -= 1;
+            return true;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            permits = Math.min(capacity, permits + (now - lastRefillNanos) / nanosPerPermit);
+            lastRefillNanos = now;
+        }
+    }
+}
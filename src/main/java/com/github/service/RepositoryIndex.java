@@ -0,0 +1,165 @@
+package com.github.service;
+
+import com.github.model.Repository;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Client-side index of the repositories the authenticated user owns, with hash lookups by name and id,
+ * so existence checks do not download and scan the whole listing. GitHubApiClient fills it with
+ * syncRepositoryIndex (incremental after the first sync) and writes local creates and deletes
+ * through to it. Names are matched case-insensitively, as on GitHub; they are unique only within
+ * one owner, which is why collaborator and organization repositories are left out.
+ */
+@Component
+public class RepositoryIndex {
+
+    private final Map<String, Repository> byName = new ConcurrentHashMap<>();
+    private final Map<Long, Repository> byId = new ConcurrentHashMap<>();
+    private volatile String firstPageEtag;
+    private volatile Instant syncedThrough;
+    private volatile boolean synced;
+
+    public Optional<Repository> findByName(String name) {
+        return Optional.ofNullable(byName.get(nameKey(name)));
+    }
+
+    public Optional<Repository> findById(long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public boolean contains(String name) {
+        return byName.containsKey(nameKey(name));
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public Collection<Repository> values() {
+        return List.copyOf(byId.values());
+    }
+
+    /**
+     * Whether a full listing has been loaded; until then lookups only see written-through repositories.
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Adds or replaces a repository, dropping the old name entry if it was renamed.
+     */
+    public void put(Repository repository) {
+        Repository previous = byId.put(repository.getId(), repository);
+        if (previous != null && !nameKey(previous.getName()).equals(nameKey(repository.getName()))) {
+            byName.remove(nameKey(previous.getName()), previous);
+        }
+        byName.put(nameKey(repository.getName()), repository);
+    }
+
+    public void remove(String name) {
+        Repository removed = byName.remove(nameKey(name));
+        if (removed != null) {
+            byId.remove(removed.getId(), removed);
+        }
+    }
+
+    public void remove(long id) {
+        Repository removed = byId.remove(id);
+        if (removed != null) {
+            byName.remove(nameKey(removed.getName()), removed);
+        }
+    }
+
+    /**
+     * Forgets everything, so the next sync downloads the full listing again. Needed to notice
+     * repositories deleted outside this client, which an incremental sync cannot see.
+     */
+    public void clear() {
+        synced = false;
+        firstPageEtag = null;
+        syncedThrough = null;
+        byName.clear();
+        byId.clear();
+    }
+
+    /**
+     * True when the index already holds this exact version of the repository.
+     */
+    boolean isCurrent(Repository repository) {
+        Repository indexed = byId.get(repository.getId());
+        return indexed != null
+            && indexed.getUpdatedAt() != null
+            && Objects.equals(indexed.getUpdatedAt(), repository.getUpdatedAt())
+            && Objects.equals(indexed.getName(), repository.getName());
+    }
+
+    /**
+     * True when the repository was last updated before the newest updated_at seen by a sync; an
+     * incremental sync over a listing sorted by updated_at stops at the first such entry. Only
+     * syncs move this high-water mark, since write-through and webhook entries can be newer than
+     * changes the index has not seen yet.
+     */
+    boolean isOlderThanLastSync(Repository repository) {
+        Instant updatedAt = updatedAt(repository);
+        return updatedAt != null && syncedThrough != null && updatedAt.isBefore(syncedThrough);
+    }
+
+    String getFirstPageEtag() {
+        return firstPageEtag;
+    }
+
+    /**
+     * Swaps in a complete listing.
+     */
+    void replaceAll(Collection<Repository> repositories, String etag) {
+        byName.clear();
+        byId.clear();
+        repositories.forEach(this::put);
+        firstPageEtag = etag;
+        syncedThrough = null;
+        repositories.forEach(this::advanceSyncedThrough);
+        synced = true;
+    }
+
+    /**
+     * Records a finished incremental sync that saw the given repositories.
+     */
+    void markSynced(String etag, Collection<Repository> seen) {
+        seen.forEach(this::advanceSyncedThrough);
+        firstPageEtag = etag;
+        synced = true;
+    }
+
+    private void advanceSyncedThrough(Repository repository) {
+        Instant updatedAt = updatedAt(repository);
+        if (updatedAt != null && (syncedThrough == null || updatedAt.isAfter(syncedThrough))) {
+            syncedThrough = updatedAt;
+        }
+    }
+
+    // Parsed rather than compared as text, since fractional seconds vary in length
+    private static Instant updatedAt(Repository repository) {
+        return repository.getUpdatedAt() == null ? null : Instant.parse(repository.getUpdatedAt());
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * What one sync did: requests sent, repositories added or updated, and whether GitHub
+     * answered the first page with 304 Not Modified.
+     */
+    public record SyncResult(int requests, int updated, boolean notModified) {
+    }
+}
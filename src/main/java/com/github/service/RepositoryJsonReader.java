@@ -0,0 +1,137 @@
+package com.github.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.model.Repository;
+import com.github.model.RepositoryTable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Token-level reader for GitHub repository arrays. Each element is mapped straight into a
+ * Repository and handed to the consumer, and unknown fields are skipped without building
+ * a tree, so memory stays flat regardless of how many repositories the body holds.
+ */
+public final class RepositoryJsonReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private RepositoryJsonReader() {
+    }
+
+    /**
+     * Reads a JSON array of repositories and passes each one to the consumer as it is parsed.
+     */
+    public static void read(InputStream body, Consumer<Repository> consumer) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Expected a JSON array of repositories");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                consumer.accept(readRepository(parser));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read repository list", e);
+        }
+    }
+
+    /**
+     * Reads a single repository object, such as the body of a 201 from POST /user/repos.
+     */
+    public static Repository readOne(InputStream body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Expected a JSON repository object");
+            }
+            return readRepository(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read repository", e);
+        }
+    }
+
+    /**
+     * Reads a JSON array of repositories straight into the columns of a RepositoryTable,
+     * without creating a Repository per element.
+     */
+    public static void read(InputStream body, RepositoryTable table) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Expected a JSON array of repositories");
+            }
+            Fields fields = new Fields();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                readFields(parser, fields);
+                table.add(fields.id, fields.name, fields.description, fields.privateRepo, fields.htmlUrl, fields.updatedAt);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read repository list", e);
+        }
+    }
+
+    public static List<Repository> readList(InputStream body) {
+        List<Repository> repositories = new ArrayList<>();
+        read(body, repositories::add);
+        return repositories;
+    }
+
+    private static Repository readRepository(JsonParser parser) throws IOException {
+        Fields fields = new Fields();
+        readFields(parser, fields);
+        Repository repository = new Repository();
+        repository.setId(fields.id);
+        repository.setName(fields.name);
+        repository.setDescription(fields.description);
+        repository.setPrivateRepo(fields.privateRepo);
+        repository.setHtmlUrl(fields.htmlUrl);
+        repository.setUpdatedAt(fields.updatedAt);
+        return repository;
+    }
+
+    private static void readFields(JsonParser parser, Fields fields) throws IOException {
+        fields.clear();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> fields.id = parser.getLongValue();
+                case "name" -> fields.name = textOrNull(parser, value);
+                case "description" -> fields.description = textOrNull(parser, value);
+                case "private" -> fields.privateRepo = value == JsonToken.VALUE_TRUE;
+                case "html_url" -> fields.htmlUrl = textOrNull(parser, value);
+                case "updated_at" -> fields.updatedAt = textOrNull(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static String textOrNull(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    /**
+     * The mapped fields of one element, reused across the elements of an array.
+     */
+    private static final class Fields {
+        long id;
+        String name;
+        String description;
+        boolean privateRepo;
+        String htmlUrl;
+        String updatedAt;
+
+        void clear() {
+            id = 0;
+            name = null;
+            description = null;
+            privateRepo = false;
+            htmlUrl = null;
+            updatedAt = null;
+        }
+    }
+}
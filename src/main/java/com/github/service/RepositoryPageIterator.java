@@ -0,0 +1,100 @@
+package com.github.service;
+
+import com.github.model.Repository;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lazily walks a paginated repository listing by following {@code Link: rel="next"}.
+ * While the caller consumes page N, page N+1 is already being fetched on the given
+ * executor, so at most two pages are held in memory at any time.
+ */
+public class RepositoryPageIterator implements Iterator<Repository>, AutoCloseable {
+
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"next\"");
+
+    private final Function<String, Page> pageFetcher;
+    private final Executor executor;
+    private Iterator<Repository> current = Collections.emptyIterator();
+    private CompletableFuture<Page> nextPage;
+
+    public RepositoryPageIterator(String firstPageUrl, Function<String, Page> pageFetcher, Executor executor) {
+        this.pageFetcher = pageFetcher;
+        this.executor = executor;
+        this.nextPage = prefetch(firstPageUrl);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (nextPage == null) {
+                return false;
+            }
+            Page page = await(nextPage);
+            nextPage = page.nextUrl() == null ? null : prefetch(page.nextUrl());
+            current = page.repositories().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public Repository next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more repositories");
+        }
+        return current.next();
+    }
+
+    /**
+     * Cancels any page still in flight; used when a stream is closed early.
+     */
+    @Override
+    public void close() {
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+        current = Collections.emptyIterator();
+    }
+
+    private CompletableFuture<Page> prefetch(String url) {
+        return CompletableFuture.supplyAsync(() -> pageFetcher.apply(url), executor);
+    }
+
+    private static Page await(CompletableFuture<Page> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Extracts the {@code rel="next"} URL from a GitHub Link header, or null on the last page.
+     */
+    public static String nextPageUrl(String linkHeader) {
+        if (linkHeader == null) {
+            return null;
+        }
+        Matcher matcher = NEXT_LINK.matcher(linkHeader);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * One page of repositories plus the URL of the following page (null when this is the last).
+     */
+    public record Page(List<Repository> repositories, String nextUrl) {
+    }
+}
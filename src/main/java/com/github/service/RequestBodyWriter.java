@@ -0,0 +1,74 @@
+package com.github.service;
+
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.model.CreateIssueRequest;
+import com.github.model.CreateRepositoryRequest;
+import com.github.model.UpdateIssueRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Serializes request records with ObjectWriters resolved once per type, writing into pooled
+ * byte buffers. The pool is shared rather than thread-local because calls run on short-lived
+ * virtual threads that would never reuse a per-thread buffer.
+ */
+public final class RequestBodyWriter {
+
+    private static final int POOLED_BUFFERS = 64;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectWriter REPOSITORY_WRITER = MAPPER.writerFor(CreateRepositoryRequest.class);
+    private static final ObjectWriter ISSUE_WRITER = MAPPER.writerFor(CreateIssueRequest.class);
+    private static final ObjectWriter ISSUE_UPDATE_WRITER = MAPPER.writerFor(UpdateIssueRequest.class);
+
+    private static final Queue<ByteArrayBuilder> BUFFERS = new ArrayBlockingQueue<>(POOLED_BUFFERS);
+
+    private RequestBodyWriter() {
+    }
+
+    public static JsonBody write(CreateRepositoryRequest request) {
+        return write(REPOSITORY_WRITER, request);
+    }
+
+    public static JsonBody write(CreateIssueRequest request) {
+        return write(ISSUE_WRITER, request);
+    }
+
+    public static JsonBody write(UpdateIssueRequest request) {
+        return write(ISSUE_UPDATE_WRITER, request);
+    }
+
+    private static JsonBody write(ObjectWriter writer, Object request) {
+        ByteArrayBuilder buffer = BUFFERS.poll();
+        if (buffer == null) {
+            buffer = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+        }
+        try {
+            writer.writeValue(buffer, request);
+            return new JsonBody(buffer.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize " + request.getClass().getSimpleName(), e);
+        } finally {
+            buffer.reset();
+            BUFFERS.offer(buffer);
+        }
+    }
+
+    /**
+     * Serialized UTF-8 request body; decoded to text only when it is logged.
+     */
+    public record JsonBody(byte[] bytes) {
+
+        @Override
+        public String toString() {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
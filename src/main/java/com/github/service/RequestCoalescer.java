@@ -0,0 +1,97 @@
+package com.github.service;
+
+import com.github.config.GitHubProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for GETs: concurrent callers with the same key share one in-flight request.
+ * The first caller sends it; the others wait and each receive their own copy of the response,
+ * so no two threads read the same Response object. Nothing is kept once the request completes.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final boolean enabled;
+    private final Map<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    @Autowired
+    public RequestCoalescer(GitHubProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties.getCoalescing().isEnabled(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public RequestCoalescer(boolean enabled, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.coalesced = Counter.builder("github.client.requests.coalesced")
+            .description("GET calls served by joining an identical request already in flight")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Key for a GET by URL and credential; the ETag is included because a conditional
+     * request may legitimately get a different answer (304) than an unconditional one.
+     */
+    public static String key(String url, String token, String etag) {
+        return url + "|" + TokenFingerprint.of(token) + (etag == null ? "" : "|" + etag);
+    }
+
+    public Response execute(String key, Supplier<Response> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        CompletableFuture<Response> leader = new CompletableFuture<>();
+        CompletableFuture<Response> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalesced.increment();
+            return copyOf(join(existing));
+        }
+
+        try {
+            Response response = call.get();
+            leader.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    public long getCoalescedCount() {
+        return (long) coalesced.count();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private static Response join(CompletableFuture<Response> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Response copyOf(Response response) {
+        // clone() copies the already-buffered body, headers, cookies and status line
+        return new ResponseBuilder().clone(response).build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.github.service;
+
+import com.github.config.GitHubProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.restassured.response.Response;
+import jakarta.annotation.PreDestroy;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Hedged GETs: when a request is still outstanding after the endpoint's usual latency (p95 by
+ * default, learned per endpoint template), a second identical request is sent and whichever answers
+ * first wins. Tail latency drops at the cost of a few percent more requests. Endpoints are only
+ * hedged once {@code minSamples} latencies have been seen for them. GitHubApiClient hedges a single
+ * attempt inside its retry loop, after the rate-limit scheduler has let it through, so the learned
+ * latencies are those of HTTP requests alone, without backoff or rate-limit parking. The hedge is an
+ * extra request, so it goes through GitHubRequestExecutor and is skipped when that is at its
+ * in-flight cap or when the caller has no spare rate-limit budget for it. The primary is the
+ * caller's own request and runs on a thread of this class while the caller waits.
+ */
+@Component
+public class RequestHedger {
+
+    private static final long MAX_TRACKED_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final boolean enabled;
+    private final double percentile;
+    private final int minSamples;
+    private final long minDelayNanos;
+    private final Map<String, ConcurrentHistogram> latencies = new ConcurrentHashMap<>();
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("github-hedge-primary-", 0).factory());
+    private final GitHubRequestExecutor requestExecutor;
+    private final Counter hedged;
+    private final Counter hedgesSkipped;
+    private final Counter hedgeWins;
+
+    @Autowired
+    public RequestHedger(GitHubProperties properties, GitHubRequestExecutor requestExecutor,
+                         ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties.getHedging(), requestExecutor, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public RequestHedger(GitHubProperties.Hedging settings, GitHubRequestExecutor requestExecutor,
+                         MeterRegistry meterRegistry) {
+        this.requestExecutor = requestExecutor;
+        this.enabled = settings.isEnabled();
+        this.percentile = settings.getPercentile() * 100;
+        this.minSamples = settings.getMinSamples();
+        this.minDelayNanos = settings.getMinDelay().toNanos();
+        this.hedged = Counter.builder("github.client.requests.hedged")
+            .description("GETs for which a second request was sent after the hedge delay")
+            .register(meterRegistry);
+        this.hedgesSkipped = Counter.builder("github.client.requests.hedged.skipped")
+            .description("Hedges not sent because the request executor was at its in-flight cap or rate-limit budget ran short")
+            .register(meterRegistry);
+        this.hedgeWins = Counter.builder("github.client.requests.hedged.wins")
+            .description("Hedged GETs answered first by the second request")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code primary}, and {@code hedge} as well if the primary is slower than the hedge delay.
+     * The hedge must send an independent request; the two run concurrently.
+     */
+    public Response execute(String uriTemplate, Supplier<Response> primary, Supplier<Response> hedge) {
+        return execute(uriTemplate, primary, hedge, () -> true);
+    }
+
+    /**
+     * As above; {@code hedgeBudget} is asked just before a hedge would be sent and skips it when false.
+     */
+    public Response execute(String uriTemplate, Supplier<Response> primary, Supplier<Response> hedge,
+                            BooleanSupplier hedgeBudget) {
+        ConcurrentHistogram histogram = latencies.computeIfAbsent(uriTemplate, key -> new ConcurrentHistogram(3));
+        long delayNanos = hedgeDelayNanos(histogram);
+        if (delayNanos < 0) {
+            return timed(histogram, primary).get();
+        }
+
+        CompletableFuture<Response> first = CompletableFuture.supplyAsync(timed(histogram, primary), executor);
+        try {
+            return first.get(delayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Still outstanding after the usual latency: race a second request
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a GitHub response", e);
+        }
+
+        Optional<CompletableFuture<Response>> submitted = hedgeBudget.getAsBoolean()
+            ? requestExecutor.trySubmit(timed(histogram, hedge))
+            : Optional.empty();
+        if (submitted.isEmpty()) {
+            hedgesSkipped.increment();
+            try {
+                return first.join();
+            } catch (CompletionException e) {
+                throw unwrap(e.getCause());
+            }
+        }
+        hedged.increment();
+        CompletableFuture<Response> second = submitted.get();
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        AtomicBoolean answered = new AtomicBoolean();
+        first.whenComplete((response, error) -> settle(winner, response, error, answered, failures, false));
+        second.whenComplete((response, error) -> settle(winner, response, error, answered, failures, true));
+        try {
+            return winner.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * Current hedge delay for the endpoint in nanoseconds, or -1 while hedging is disabled or the
+     * endpoint has too few samples.
+     */
+    public long getHedgeDelayNanos(String uriTemplate) {
+        ConcurrentHistogram histogram = latencies.get(uriTemplate);
+        return histogram == null ? -1 : hedgeDelayNanos(histogram);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private long hedgeDelayNanos(ConcurrentHistogram histogram) {
+        if (!enabled || histogram.getTotalCount() < minSamples) {
+            return -1;
+        }
+        return Math.max(minDelayNanos, histogram.getValueAtPercentile(percentile));
+    }
+
+    private void settle(CompletableFuture<Response> winner, Response response, Throwable error,
+                        AtomicBoolean answered, AtomicInteger failures, boolean fromHedge) {
+        if (error == null) {
+            if (answered.compareAndSet(false, true)) {
+                // Count before completing, so the caller never observes the answer without the win
+                if (fromHedge) {
+                    hedgeWins.increment();
+                }
+                winner.complete(response);
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            // Both requests failed: report the later error
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private static Supplier<Response> timed(ConcurrentHistogram histogram, Supplier<Response> call) {
+        return () -> {
+            long start = System.nanoTime();
+            Response response = call.get();
+            histogram.recordValue(Math.min(System.nanoTime() - start, MAX_TRACKED_NANOS));
+            return response;
+        };
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,240 @@
+package com.github.service;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.aventstack.extentreports.model.Log;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.config.GitHubProperties;
+import io.restassured.response.Response;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Moves request/response report logging off the request thread. Entries go into a bounded
+ * queue and a single background worker renders them: bodies are truncated first and only
+ * pretty-printed when they fit. The entry's log line is added to the test on submit and filled
+ * in by the worker, so it keeps its place among the test's own log lines. When the queue is full
+ * the entry is dropped (the default, leaving a note in the report) or the caller blocks,
+ * depending on the configured overflow policy. A test's entries must be drained before the
+ * test is marked finished; see drain(ExtentTest, ...).
+ */
+@Slf4j
+@Component
+public class RequestLogPipeline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final boolean async;
+    private final int maxBodyChars;
+    private final boolean prettyPrint;
+    private final GitHubProperties.Logging.OverflowPolicy overflowPolicy;
+    private final BlockingQueue<LogEntry> queue;
+    private final Thread worker;
+    private final AtomicLong pending = new AtomicLong();
+    private final Map<ExtentTest, Integer> pendingByTest = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running = true;
+
+    @Autowired
+    public RequestLogPipeline(GitHubProperties properties) {
+        this(properties.getLogging());
+    }
+
+    public RequestLogPipeline(GitHubProperties.Logging settings) {
+        this.async = settings.isAsync();
+        this.maxBodyChars = settings.getMaxBodyChars();
+        this.prettyPrint = settings.isPrettyPrint();
+        this.overflowPolicy = settings.getOverflowPolicy();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity()));
+        this.worker = new Thread(this::drainLoop, "github-request-log");
+        this.worker.setDaemon(true);
+        if (async) {
+            this.worker.start();
+        }
+    }
+
+    /**
+     * Records one request/response pair for the given test. Cheap on the caller's thread:
+     * the body is only read, truncated and formatted by the background worker.
+     */
+    public void submit(ExtentTest test, String method, String uri, String requestBody, Response response) {
+        if (test == null) {
+            return;
+        }
+        if (!async || !running) {
+            test.info(MarkupHelper.createCodeBlock(format(method, uri, requestBody, response.getStatusCode(), response.asString())));
+            return;
+        }
+
+        LogEntry entry = new LogEntry(test, reserve(test, method, uri), method, uri, requestBody, response);
+        pending.incrementAndGet();
+        pendingByTest.merge(test, 1, Integer::sum);
+        boolean accepted = overflowPolicy == GitHubProperties.Logging.OverflowPolicy.BLOCK
+            ? put(entry)
+            : queue.offer(entry);
+        if (!accepted) {
+            entry.line().setDetails(codeBlock(method + " " + uri + "\n(not logged: request log queue full)"));
+            finished(entry);
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every queued entry has been written, or the timeout passes.
+     */
+    public boolean drain(long timeout, TimeUnit unit) {
+        return awaitUntil(() -> pending.get() == 0, timeout, unit);
+    }
+
+    /**
+     * Waits until the entries submitted for one test have been written, or the timeout passes.
+     * Call before marking the test passed or failed, so the report is complete when it is flushed.
+     */
+    public boolean drain(ExtentTest test, long timeout, TimeUnit unit) {
+        return awaitUntil(() -> !pendingByTest.containsKey(test), timeout, unit);
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        drain(5, TimeUnit.SECONDS);
+        worker.interrupt();
+    }
+
+    /**
+     * Builds the code block text for one request/response pair.
+     */
+    public String format(String method, String uri, String requestBody, int statusCode, String responseBody) {
+        String finalRequestBody = (requestBody == null) ? "No body" : render(requestBody);
+        return new StringBuilder()
+            .append("Request:\n")
+            .append("Method: ").append(method).append("\n")
+            .append("URI: ").append(uri).append("\n")
+            .append("Body:\n").append(finalRequestBody).append("\n\n")
+            .append("Response:\n")
+            .append("Status Code: ").append(statusCode).append("\n")
+            .append("Body:\n").append(render(responseBody))
+            .toString();
+    }
+
+    private String render(String body) {
+        if (body == null || body.isEmpty()) {
+            return "";
+        }
+        if (body.length() > maxBodyChars) {
+            return body.substring(0, maxBodyChars)
+                + "\n... [truncated " + (body.length() - maxBodyChars) + " chars]";
+        }
+        if (!prettyPrint) {
+            return body;
+        }
+        char first = body.charAt(0);
+        if (first != '{' && first != '[') {
+            return body;
+        }
+        try {
+            return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(MAPPER.readTree(body));
+        } catch (JsonProcessingException e) {
+            return body;
+        }
+    }
+
+    /**
+     * Adds the entry's log line to the test now, with a placeholder the worker replaces.
+     * Holding the synchronized log list's own lock makes the added line the last one, even
+     * when other threads log to the same test.
+     */
+    private static Log reserve(ExtentTest test, String method, String uri) {
+        List<Log> logs = test.getModel().getLogs();
+        synchronized (logs) {
+            test.info(MarkupHelper.createCodeBlock(method + " " + uri + "\n(pending)"));
+            return logs.get(logs.size() - 1);
+        }
+    }
+
+    private void write(LogEntry entry) {
+        Response response = entry.response();
+        String text = format(entry.method(), entry.uri(), entry.requestBody(),
+            response.getStatusCode(), response.asString());
+        entry.line().setDetails(codeBlock(text));
+    }
+
+    private void finished(LogEntry entry) {
+        pendingByTest.computeIfPresent(entry.test(), (test, count) -> count == 1 ? null : count - 1);
+        pending.decrementAndGet();
+    }
+
+    private static String codeBlock(String text) {
+        return MarkupHelper.createCodeBlock(text).getMarkup();
+    }
+
+    private static boolean awaitUntil(BooleanSupplier done, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!done.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean put(LogEntry entry) {
+        try {
+            queue.put(entry);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                LogEntry entry = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (entry != null) {
+                    try {
+                        write(entry);
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to write request log for {}", entry.uri(), e);
+                    } finally {
+                        finished(entry);
+                    }
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private record LogEntry(ExtentTest test, Log line, String method, String uri, String requestBody, Response response) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.service;
+
+import com.github.config.GitHubProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.restassured.response.Response;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Retries idempotent calls that fail with a transient status (502/503/504 by default) or an I/O
+ * error, sleeping a random "full jitter" backoff between attempts so parallel callers do not retry
+ * in lockstep. The circuit breaker is not applied here but around the HTTP request inside each
+ * attempt, so an open circuit surfaces as CircuitBreakerOpenException, which is not retried.
+ * Rate-limit responses are not handled here; RateLimitScheduler already parks and retries those.
+ */
+@Component
+public class RetryPolicy {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final double multiplier;
+    private final Set<Integer> retryOnStatus;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RetryPolicy(GitHubProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties.getRetry(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public RetryPolicy(GitHubProperties.Retry settings, MeterRegistry meterRegistry) {
+        this.maxAttempts = settings.isEnabled() ? Math.max(1, settings.getMaxAttempts()) : 1;
+        this.initialBackoffMillis = settings.getInitialBackoff().toMillis();
+        this.maxBackoffMillis = settings.getMaxBackoff().toMillis();
+        this.multiplier = settings.getMultiplier();
+        this.retryOnStatus = Set.copyOf(settings.getRetryOnStatus());
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Whether HTTP defines the method as idempotent. Callers may still pass {@code idempotent=true}
+     * for a specific request that is safe to repeat, such as closing an issue.
+     */
+    public static boolean isIdempotent(String method) {
+        return IDEMPOTENT_METHODS.contains(method);
+    }
+
+    public Response execute(String method, String uriTemplate, boolean idempotent, Supplier<Response> call) {
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = !idempotent || attempt >= maxAttempts;
+
+            Response response;
+            try {
+                response = call.get();
+            } catch (Exception e) {
+                // Rest Assured rethrows connection errors (checked IOExceptions) undeclared
+                if (lastAttempt || !isTransient(e)) {
+                    throw e;
+                }
+                retrying(method, uriTemplate, attempt);
+                continue;
+            }
+
+            boolean transientStatus = retryOnStatus.contains(response.getStatusCode());
+            if (lastAttempt || !transientStatus) {
+                return response;
+            }
+            retrying(method, uriTemplate, attempt);
+        }
+    }
+
+    /**
+     * Random backoff in [0, min(maxBackoff, initialBackoff * multiplier^(attempt - 1))].
+     */
+    public long backoffMillis(int attempt) {
+        double ceiling = Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(multiplier, attempt - 1));
+        return ThreadLocalRandom.current().nextLong((long) ceiling + 1);
+    }
+
+    private void retrying(String method, String uriTemplate, int attempt) {
+        Counter.builder("github.client.retries")
+            .description("Attempts repeated after a transient failure")
+            .tag("method", method)
+            .tag("uri", uriTemplate)
+            .register(meterRegistry)
+            .increment();
+        try {
+            Thread.sleep(backoffMillis(attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off before a retry", e);
+        }
+    }
+
+    private static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.stub;
+
+import com.github.config.GitHubProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts a {@link GitHubStubServer} when {@code github.stub.enabled=true} and points
+ * {@code github.api.baseurl} at it before any client bean reads the URL. Not registered in the
+ * application itself: the test classpath adds it through META-INF/spring.factories, and
+ * GitHubAutomationApplication adds it for {@code --load} runs.
+ */
+public class GitHubStubInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    public static final String BEAN_NAME = "gitHubStubServer";
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        ConfigurableEnvironment environment = context.getEnvironment();
+        GitHubProperties.Stub settings = Binder.get(environment)
+            .bind("github.stub", GitHubProperties.Stub.class)
+            .orElseGet(GitHubProperties.Stub::new);
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        // The configured tokens are always accepted so the default client works unchanged
+        List<String> tokens = new ArrayList<>(settings.getTokens());
+        String token = environment.getProperty("github.api.token");
+        if (token != null) {
+            tokens.add(token);
+        }
+        tokens.addAll(Binder.get(environment).bind("github.api.tokens", Bindable.listOf(String.class))
+            .orElse(List.of()));
+        String login = environment.getProperty("github.default.owner", "octocat");
+
+        GitHubStubServer server = new GitHubStubServer(settings, login, tokens);
+        environment.getPropertySources().addFirst(
+            new MapPropertySource(BEAN_NAME, Map.of("github.api.baseurl", server.getBaseUrl())));
+        context.getBeanFactory().registerSingleton(BEAN_NAME, server);
+        context.addApplicationListener(event -> {
+            if (event instanceof ContextClosedEvent closed && closed.getApplicationContext() == context) {
+                server.close();
+            }
+        });
+    }
+}
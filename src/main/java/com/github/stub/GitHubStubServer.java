@@ -0,0 +1,475 @@
+package com.github.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.config.GitHubProperties;
+import com.github.stub.GitHubStubState.StubIssue;
+import com.github.stub.GitHubStubState.StubRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded stand-in for the GitHub REST endpoints (and the GraphQL viewer query) the client uses,
+ * backed by {@link GitHubStubState}.
+ * Latency, injected server errors and per-token rate-limit headers follow {@link GitHubProperties.Stub}.
+ */
+@Slf4j
+public class GitHubStubServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9._-]{1,100}");
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final GitHubProperties.Stub settings;
+    private final Set<String> acceptedTokens;
+    private final GitHubStubState state;
+    private final Map<String, QuotaWindow> quotas = new ConcurrentHashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+    private final String baseUrl;
+
+    public GitHubStubServer(GitHubProperties.Stub settings, String login, Collection<String> acceptedTokens) {
+        this.settings = settings;
+        this.acceptedTokens = Set.copyOf(acceptedTokens);
+        this.state = new GitHubStubState(login);
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", settings.getPort()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start GitHub stub on port " + settings.getPort(), e);
+        }
+        this.baseUrl = "http://localhost:" + server.getAddress().getPort();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public GitHubStubState getState() {
+        return state;
+    }
+
+    public GitHubProperties.Stub getSettings() {
+        return settings;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Drops all repositories and restores every token's full rate-limit budget.
+     */
+    public void reset() {
+        state.clear();
+        quotas.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            sleep(latencyMillis());
+
+            String token = bearerToken(exchange.getRequestHeaders().getFirst("Authorization"));
+            if (token == null || !acceptedTokens.contains(token)) {
+                send(exchange, 401, message("Bad credentials"));
+                return;
+            }
+
+            QuotaWindow quota = consumeQuota(token);
+            addRateLimitHeaders(exchange, quota);
+            if (quota.used() > settings.getRateLimit().getLimit()) {
+                send(exchange, 403, message("API rate limit exceeded for user " + state.getLogin() + "."));
+                return;
+            }
+
+            if (settings.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.getErrorRate()) {
+                send(exchange, settings.getErrorStatus(), message("Server Error"));
+                return;
+            }
+
+            route(exchange, requestBody);
+        } catch (JsonProcessingException e) {
+            send(exchange, 400, message("Problems parsing JSON"));
+        } catch (RuntimeException e) {
+            log.error("GitHub stub failed on {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            send(exchange, 500, message("Server Error"));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange, byte[] requestBody) throws IOException {
+        String method = exchange.getRequestMethod();
+        URI uri = exchange.getRequestURI();
+        String[] segments = Arrays.stream(uri.getPath().split("/")).filter(s -> !s.isEmpty()).toArray(String[]::new);
+
+        if (segments.length == 1 && segments[0].equals("user") && method.equals("GET")) {
+            sendGet(exchange, userJson());
+        } else if (segments.length == 1 && segments[0].equals("graphql") && method.equals("POST")) {
+            graphql(exchange, MAPPER.readTree(requestBody));
+        } else if (segments.length == 2 && segments[0].equals("user") && segments[1].equals("repos")) {
+            switch (method) {
+                case "GET" -> listRepositories(exchange, query(uri));
+                case "POST" -> createRepository(exchange, MAPPER.readTree(requestBody));
+                default -> send(exchange, 404, message("Not Found"));
+            }
+        } else if (segments.length >= 3 && segments[0].equals("repos")) {
+            StubRepository repository = state.getRepository(segments[1], segments[2]);
+            if (repository == null) {
+                send(exchange, 404, message("Not Found"));
+            } else if (segments.length == 3) {
+                repository(exchange, method, repository);
+            } else if (segments.length == 4 && segments[3].equals("issues")) {
+                issues(exchange, method, repository, query(uri), requestBody);
+            } else if (segments.length == 5 && segments[3].equals("issues")) {
+                issue(exchange, method, repository, segments[4], requestBody);
+            } else {
+                send(exchange, 404, message("Not Found"));
+            }
+        } else {
+            send(exchange, 404, message("Not Found"));
+        }
+    }
+
+    private void listRepositories(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int perPage = Math.min(MAX_PAGE_SIZE, Math.max(1, intParam(query, "per_page", DEFAULT_PAGE_SIZE)));
+        int page = Math.max(1, intParam(query, "page", 1));
+        List<StubRepository> repositories = state.listRepositories();
+        String sortQuery = "";
+        if ("updated".equals(query.get("sort"))) {
+            // Stub repositories are never modified, so updated_at is their creation time
+            Comparator<StubRepository> newestFirst = Comparator.comparing(StubRepository::createdAt)
+                .thenComparingLong(StubRepository::id).reversed();
+            boolean ascending = "asc".equals(query.get("direction"));
+            repositories = repositories.stream().sorted(ascending ? newestFirst.reversed() : newestFirst).toList();
+            sortQuery = "&sort=updated&direction=" + (ascending ? "asc" : "desc");
+        }
+        if (query.containsKey("affiliation")) {
+            // Every stub repository belongs to the user, so the filter only has to survive paging
+            sortQuery += "&affiliation=" + query.get("affiliation");
+        }
+        int from = Math.min(repositories.size(), (page - 1) * perPage);
+        int to = Math.min(repositories.size(), from + perPage);
+
+        List<Map<String, Object>> body = new ArrayList<>(to - from);
+        for (StubRepository repository : repositories.subList(from, to)) {
+            body.add(repositoryJson(repository));
+        }
+        if (to < repositories.size()) {
+            String next = baseUrl + "/user/repos?per_page=" + perPage + sortQuery + "&page=" + (page + 1);
+            String last = baseUrl + "/user/repos?per_page=" + perPage + sortQuery + "&page="
+                + ((repositories.size() + perPage - 1) / perPage);
+            exchange.getResponseHeaders().set("Link", "<" + next + ">; rel=\"next\", <" + last + ">; rel=\"last\"");
+        }
+        sendGet(exchange, body);
+    }
+
+    private void createRepository(HttpExchange exchange, JsonNode payload) throws IOException {
+        String name = payload.path("name").asText("");
+        if (!VALID_NAME.matcher(name).matches()) {
+            send(exchange, 422, validationFailed("Repository creation failed.", "Repository", "name",
+                name.isEmpty() ? "name is too short (minimum is 1 character)" : "name contains invalid characters"));
+            return;
+        }
+        String description = payload.path("description").isTextual() ? payload.path("description").asText() : null;
+        StubRepository repository = state.createRepository(name, description, payload.path("private").asBoolean(false));
+        if (repository == null) {
+            send(exchange, 422, validationFailed("Repository creation failed.", "Repository", "name",
+                "name already exists on this account"));
+            return;
+        }
+        send(exchange, 201, repositoryJson(repository));
+    }
+
+    private void repository(HttpExchange exchange, String method, StubRepository repository) throws IOException {
+        switch (method) {
+            case "GET" -> sendGet(exchange, repositoryJson(repository));
+            case "DELETE" -> send(exchange, state.deleteRepository(repository.owner(), repository.name()) ? 204 : 404,
+                null);
+            default -> send(exchange, 404, message("Not Found"));
+        }
+    }
+
+    private void issues(HttpExchange exchange, String method, StubRepository repository, Map<String, String> query,
+                        byte[] requestBody) throws IOException {
+        switch (method) {
+            case "GET" -> sendGet(exchange, repository.listIssues(query.getOrDefault("state", "open")).stream()
+                .map(issue -> issueJson(repository, issue))
+                .toList());
+            case "POST" -> {
+                JsonNode payload = MAPPER.readTree(requestBody);
+                String title = payload.path("title").asText("");
+                if (title.isBlank()) {
+                    send(exchange, 422, validationFailed("Validation Failed", "Issue", "title", "missing_field"));
+                    return;
+                }
+                String body = payload.path("body").isTextual() ? payload.path("body").asText() : null;
+                send(exchange, 201, issueJson(repository, state.createIssue(repository, title, body)));
+            }
+            default -> send(exchange, 404, message("Not Found"));
+        }
+    }
+
+    private void issue(HttpExchange exchange, String method, StubRepository repository, String number,
+                       byte[] requestBody) throws IOException {
+        int issueNumber;
+        try {
+            issueNumber = Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            send(exchange, 404, message("Not Found"));
+            return;
+        }
+        StubIssue issue = switch (method) {
+            case "GET" -> repository.issues().get(issueNumber);
+            case "PATCH" -> {
+                JsonNode payload = MAPPER.readTree(requestBody);
+                yield repository.updateIssue(issueNumber, textOrNull(payload, "title"), textOrNull(payload, "body"),
+                    textOrNull(payload, "state"));
+            }
+            default -> null;
+        };
+        if (issue == null) {
+            send(exchange, 404, message("Not Found"));
+        } else if (method.equals("GET")) {
+            sendGet(exchange, issueJson(repository, issue));
+        } else {
+            send(exchange, 200, issueJson(repository, issue));
+        }
+    }
+
+    /**
+     * Answers only the viewer-with-repositories query; cursors are base64-encoded list offsets.
+     */
+    private void graphql(HttpExchange exchange, JsonNode payload) throws IOException {
+        if (!payload.path("query").asText("").contains("viewer")) {
+            send(exchange, 200, Map.of("errors", List.of(message("Only the viewer query is supported by the stub"))));
+            return;
+        }
+        JsonNode variables = payload.path("variables");
+        int first = Math.min(MAX_PAGE_SIZE, Math.max(1, variables.path("first").asInt(DEFAULT_PAGE_SIZE)));
+        int from = 0;
+        if (variables.path("after").isTextual()) {
+            from = Integer.parseInt(new String(Base64.getDecoder().decode(variables.path("after").asText()),
+                StandardCharsets.UTF_8));
+        }
+        List<StubRepository> repositories = state.listRepositories();
+        from = Math.min(from, repositories.size());
+        int to = Math.min(repositories.size(), from + first);
+
+        List<Map<String, Object>> nodes = new ArrayList<>(to - from);
+        for (StubRepository repository : repositories.subList(from, to)) {
+            Map<String, Object> node = new LinkedHashMap<>();
+            node.put("databaseId", repository.id());
+            node.put("name", repository.name());
+            node.put("description", repository.description());
+            node.put("isPrivate", repository.privateRepo());
+            node.put("url", "https://github.com/" + repository.owner() + "/" + repository.name());
+            node.put("updatedAt", repository.createdAt().toString());
+            nodes.add(node);
+        }
+        Map<String, Object> pageInfo = new LinkedHashMap<>();
+        pageInfo.put("hasNextPage", to < repositories.size());
+        pageInfo.put("endCursor", to == from ? null
+            : Base64.getEncoder().encodeToString(String.valueOf(to).getBytes(StandardCharsets.UTF_8)));
+
+        Map<String, Object> connection = new LinkedHashMap<>();
+        connection.put("totalCount", repositories.size());
+        connection.put("pageInfo", pageInfo);
+        connection.put("nodes", nodes);
+        Map<String, Object> viewer = new LinkedHashMap<>();
+        viewer.put("login", state.getLogin());
+        viewer.put("databaseId", state.getUserId());
+        viewer.put("name", state.getLogin());
+        viewer.put("repositories", connection);
+        send(exchange, 200, Map.of("data", Map.of("viewer", viewer)));
+    }
+
+    private Map<String, Object> userJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("login", state.getLogin());
+        json.put("id", state.getUserId());
+        json.put("url", baseUrl + "/users/" + state.getLogin());
+        json.put("html_url", "https://github.com/" + state.getLogin());
+        json.put("name", state.getLogin());
+        return json;
+    }
+
+    private Map<String, Object> repositoryJson(StubRepository repository) {
+        String fullName = repository.owner() + "/" + repository.name();
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", repository.id());
+        json.put("name", repository.name());
+        json.put("full_name", fullName);
+        json.put("owner", Map.of("login", repository.owner(), "id", state.getUserId()));
+        json.put("private", repository.privateRepo());
+        json.put("html_url", "https://github.com/" + fullName);
+        json.put("description", repository.description());
+        json.put("url", baseUrl + "/repos/" + fullName);
+        json.put("created_at", repository.createdAt().toString());
+        json.put("updated_at", repository.createdAt().toString());
+        return json;
+    }
+
+    private Map<String, Object> issueJson(StubRepository repository, StubIssue issue) {
+        String fullName = repository.owner() + "/" + repository.name();
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", issue.id());
+        json.put("number", issue.number());
+        json.put("title", issue.title());
+        json.put("body", issue.body());
+        json.put("state", issue.state());
+        json.put("html_url", "https://github.com/" + fullName + "/issues/" + issue.number());
+        json.put("url", baseUrl + "/repos/" + fullName + "/issues/" + issue.number());
+        return json;
+    }
+
+    private static Map<String, Object> message(String message) {
+        return Map.of("message", message);
+    }
+
+    private static Map<String, Object> validationFailed(String message, String resource, String field, String detail) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("resource", resource);
+        error.put("code", "custom");
+        error.put("field", field);
+        error.put("message", detail);
+        return Map.of("message", message, "errors", List.of(error));
+    }
+
+    /**
+     * 200 with an ETag, or an empty 304 when the request already holds the current one.
+     */
+    private void sendGet(HttpExchange exchange, Object body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        String etag = "\"" + Integer.toHexString(Arrays.hashCode(bytes)) + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        write(exchange, 200, bytes);
+    }
+
+    private static void send(HttpExchange exchange, int statusCode, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(statusCode, -1);
+            return;
+        }
+        write(exchange, statusCode, MAPPER.writeValueAsBytes(body));
+    }
+
+    private static void write(HttpExchange exchange, int statusCode, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private QuotaWindow consumeQuota(String token) {
+        long now = System.currentTimeMillis();
+        long window = settings.getRateLimit().getWindow().toMillis();
+        return quotas.compute(token, (key, current) -> current == null || now >= current.resetAtMillis()
+            ? new QuotaWindow(now + window, 1)
+            : new QuotaWindow(current.resetAtMillis(), current.used() + 1));
+    }
+
+    private void addRateLimitHeaders(HttpExchange exchange, QuotaWindow quota) {
+        int limit = settings.getRateLimit().getLimit();
+        exchange.getResponseHeaders().set("X-RateLimit-Limit", String.valueOf(limit));
+        exchange.getResponseHeaders().set("X-RateLimit-Remaining", String.valueOf(Math.max(0, limit - quota.used())));
+        exchange.getResponseHeaders().set("X-RateLimit-Used", String.valueOf(Math.min(limit, quota.used())));
+        exchange.getResponseHeaders().set("X-RateLimit-Reset", String.valueOf(Math.ceilDiv(quota.resetAtMillis(), 1000)));
+        exchange.getResponseHeaders().set("X-RateLimit-Resource", "core");
+    }
+
+    private long latencyMillis() {
+        GitHubProperties.Stub.Latency latency = settings.getLatency();
+        double mean = latency.getMean().toMillis();
+        double sample = switch (latency.getDistribution()) {
+            case NONE -> 0;
+            case FIXED -> mean;
+            case UNIFORM -> ThreadLocalRandom.current().nextDouble() * 2 * mean;
+            case EXPONENTIAL -> -mean * Math.log(1 - ThreadLocalRandom.current().nextDouble());
+        };
+        return Math.min((long) sample, latency.getMax().toMillis());
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String bearerToken(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        if (authorization.startsWith("Bearer ")) {
+            return authorization.substring("Bearer ".length());
+        }
+        return authorization.startsWith("token ") ? authorization.substring("token ".length()) : null;
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        if (uri.getRawQuery() != null) {
+            for (String pair : uri.getRawQuery().split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    query.put(pair.substring(0, separator), pair.substring(separator + 1));
+                }
+            }
+        }
+        return query;
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        try {
+            return query.containsKey(name) ? Integer.parseInt(query.get(name)) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static String textOrNull(JsonNode payload, String field) {
+        JsonNode node = payload.get(field);
+        return node != null && node.isTextual() ? node.asText() : null;
+    }
+
+    private record QuotaWindow(long resetAtMillis, int used) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.stub;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory repositories and issues behind the stub server. Every mutation is a single
+ * atomic map operation, so concurrent callers see the same outcomes GitHub would give them.
+ */
+public class GitHubStubState {
+
+    private final String login;
+    private final long userId;
+    private final AtomicLong nextRepositoryId = new AtomicLong(100_000);
+    private final AtomicLong nextIssueId = new AtomicLong(1_000_000);
+    private final Map<String, StubRepository> repositories = new ConcurrentHashMap<>();
+
+    public GitHubStubState(String login) {
+        this.login = login;
+        this.userId = Math.abs((long) login.hashCode());
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Creates a repository for the stub user, or returns null when the name is already taken.
+     */
+    public StubRepository createRepository(String name, String description, boolean privateRepo) {
+        StubRepository repository = new StubRepository(nextRepositoryId.getAndIncrement(), login, name,
+            description, privateRepo, Instant.now());
+        return repositories.putIfAbsent(key(login, name), repository) == null ? repository : null;
+    }
+
+    public StubRepository getRepository(String owner, String name) {
+        return repositories.get(key(owner, name));
+    }
+
+    public boolean deleteRepository(String owner, String name) {
+        return repositories.remove(key(owner, name)) != null;
+    }
+
+    /**
+     * Repositories of the stub user ordered by full name, matching GitHub's default sort.
+     */
+    public List<StubRepository> listRepositories() {
+        return repositories.values().stream()
+            .sorted(Comparator.comparing(repository -> repository.name().toLowerCase(Locale.ROOT)))
+            .toList();
+    }
+
+    public int repositoryCount() {
+        return repositories.size();
+    }
+
+    public void clear() {
+        repositories.clear();
+    }
+
+    public StubIssue createIssue(StubRepository repository, String title, String body) {
+        int number = repository.nextIssueNumber.incrementAndGet();
+        StubIssue issue = new StubIssue(nextIssueId.getAndIncrement(), number, title, body, "open");
+        repository.issues.put(number, issue);
+        return issue;
+    }
+
+    private static String key(String owner, String name) {
+        return (owner + "/" + name).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A repository and its issues; the issue map is updated with atomic compute operations.
+     */
+    public record StubRepository(long id, String owner, String name, String description, boolean privateRepo,
+                                 Instant createdAt, AtomicInteger nextIssueNumber, Map<Integer, StubIssue> issues) {
+
+        StubRepository(long id, String owner, String name, String description, boolean privateRepo, Instant createdAt) {
+            this(id, owner, name, description, privateRepo, createdAt, new AtomicInteger(), new ConcurrentHashMap<>());
+        }
+
+        public List<StubIssue> listIssues(String state) {
+            return issues.values().stream()
+                .filter(issue -> state.equals("all") || issue.state().equals(state))
+                .sorted(Comparator.comparingInt(StubIssue::number).reversed())
+                .toList();
+        }
+
+        /**
+         * Applies the non-null fields of a PATCH, returning null when the issue does not exist.
+         */
+        public StubIssue updateIssue(int number, String title, String body, String state) {
+            return issues.computeIfPresent(number, (n, issue) -> new StubIssue(issue.id(), n,
+                title != null ? title : issue.title(),
+                body != null ? body : issue.body(),
+                state != null ? state : issue.state()));
+        }
+    }
+
+    public record StubIssue(long id, int number, String title, String body, String state) {
+    }
+}
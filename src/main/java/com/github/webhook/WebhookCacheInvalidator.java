@@ -0,0 +1,88 @@
+package com.github.webhook;
+
+import com.github.service.ConditionalRequestCache;
+import com.github.service.DiskResponseCache;
+import com.github.service.RepositoryIndex;
+import com.github.service.RepositoryJsonReader;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Applies webhook events to the client-side caches so they follow changes made anywhere, not just
+ * through this client. Repository events evict the cached listings and the repository's URLs. They
+ * also update the RepositoryIndex, which otherwise never learns of deletions made elsewhere. Issue
+ * events evict the repository's URLs, which include its issues.
+ * <p>
+ * The index is keyed by bare name, so only repositories owned by {@code github.default.owner} are
+ * written to it; a repository with the same name under another owner would otherwise overwrite
+ * one of ours. A repository transferred away from the account is removed from the index.
+ */
+@Component
+public class WebhookCacheInvalidator {
+
+    private final String baseUrl;
+    private final String owner;
+    private final ConditionalRequestCache responseCache;
+    private final DiskResponseCache diskCache;
+    private final RepositoryIndex repositoryIndex;
+
+    public WebhookCacheInvalidator(
+        @Value("${github.api.baseurl}") String baseUrl,
+        @Value("${github.default.owner}") String owner,
+        WebhookEventBus eventBus,
+        ConditionalRequestCache responseCache,
+        DiskResponseCache diskCache,
+        RepositoryIndex repositoryIndex
+    ) {
+        this.baseUrl = baseUrl;
+        this.owner = owner;
+        this.responseCache = responseCache;
+        this.diskCache = diskCache;
+        this.repositoryIndex = repositoryIndex;
+        eventBus.subscribe(this::apply);
+    }
+
+    void apply(WebhookEvent event) {
+        invalidate("/repos/" + event.fullName());
+        if (!WebhookEvent.REPOSITORY.equals(event.type())) {
+            return;
+        }
+        invalidate("/user/repos");
+
+        // A rename leaves entries under the old name behind
+        JSONObject changes = event.payload().optJSONObject("changes");
+        if ("renamed".equals(event.action()) && changes != null) {
+            String oldName = changes.optJSONObject("repository", new JSONObject())
+                .optJSONObject("name", new JSONObject())
+                .optString("from", null);
+            if (oldName != null) {
+                invalidate("/repos/" + event.owner() + "/" + oldName);
+            }
+        }
+        // A transfer does the same under the old owner, which may be a user or an organization
+        if ("transferred".equals(event.action()) && changes != null) {
+            JSONObject from = changes.optJSONObject("owner", new JSONObject()).optJSONObject("from", new JSONObject());
+            JSONObject oldOwner = from.has("organization") ? from.getJSONObject("organization") : from.optJSONObject("user");
+            if (oldOwner != null && oldOwner.has("login")) {
+                invalidate("/repos/" + oldOwner.getString("login") + "/" + event.repository());
+            }
+        }
+
+        boolean owned = owner.equalsIgnoreCase(event.owner());
+        if ("deleted".equals(event.action()) || ("transferred".equals(event.action()) && !owned)) {
+            repositoryIndex.remove(event.repositoryId());
+        } else if (owned) {
+            byte[] repository = event.payload().getJSONObject("repository").toString().getBytes(StandardCharsets.UTF_8);
+            repositoryIndex.put(RepositoryJsonReader.readOne(new ByteArrayInputStream(repository)));
+        }
+    }
+
+    private void invalidate(String endpoint) {
+        responseCache.invalidateUrl(baseUrl + endpoint);
+        diskCache.invalidateUrl(baseUrl + endpoint);
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.webhook;
+
+import com.github.config.GitHubProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Set;
+
+/**
+ * Receives GitHub webhook deliveries at {@code github.webhook.path} when
+ * {@code github.webhook.enabled=true}. Only deliveries with a valid X-Hub-Signature-256 for
+ * {@code github.webhook.secret} are accepted. {@code repository} and {@code issues} events are
+ * published to the WebhookEventBus. Anything else, including GitHub's {@code ping}, is
+ * acknowledged and dropped.
+ */
+@Slf4j
+@RestController
+@ConditionalOnProperty(prefix = "github.webhook", name = "enabled", havingValue = "true")
+public class WebhookController {
+
+    static final String EVENT_HEADER = "X-GitHub-Event";
+    static final String DELIVERY_HEADER = "X-GitHub-Delivery";
+
+    private static final Set<String> PUBLISHED_EVENTS = Set.of(WebhookEvent.REPOSITORY, WebhookEvent.ISSUES);
+
+    private final String secret;
+    private final WebhookEventBus eventBus;
+
+    @Autowired
+    public WebhookController(GitHubProperties properties, WebhookEventBus eventBus) {
+        this(properties.getWebhook(), eventBus);
+    }
+
+    public WebhookController(GitHubProperties.Webhook settings, WebhookEventBus eventBus) {
+        if (settings.getSecret() == null || settings.getSecret().isBlank()) {
+            throw new IllegalStateException("github.webhook.secret must be set when github.webhook.enabled is true");
+        }
+        this.secret = settings.getSecret();
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Answers 401 to a missing or wrong signature, and 400 to a delivery with no event type or
+     * an unreadable payload. Otherwise answers 202 once the event is published, or 204 when the
+     * event type is ignored.
+     */
+    @PostMapping("${github.webhook.path:/webhooks/github}")
+    public ResponseEntity<Void> receive(@RequestHeader(value = EVENT_HEADER, required = false) String type,
+                                        @RequestHeader(value = DELIVERY_HEADER, required = false) String deliveryId,
+                                        @RequestHeader(value = WebhookSignature.HEADER, required = false) String signature,
+                                        @RequestBody(required = false) byte[] body) {
+        byte[] payload = body == null ? new byte[0] : body;
+        if (!WebhookSignature.verify(secret, payload, signature)) {
+            log.warn("Rejected webhook delivery {}: missing or invalid {}", deliveryId, WebhookSignature.HEADER);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (type == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!PUBLISHED_EVENTS.contains(type)) {
+            return ResponseEntity.noContent().build();
+        }
+
+        WebhookEvent event;
+        try {
+            event = WebhookEvent.parse(type, deliveryId, payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected webhook delivery {}: {}", deliveryId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        eventBus.publish(event);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.webhook;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One verified webhook delivery. The fields WebhookEventBus routes on are pulled out of the
+ * payload, and the full payload is kept for subscribers that need more. The issue number is
+ * 0 for events that do not concern an issue.
+ */
+public record WebhookEvent(String type, String action, String deliveryId, long repositoryId,
+                           String owner, String repository, int issueNumber, JSONObject payload) {
+
+    public static final String REPOSITORY = "repository";
+    public static final String ISSUES = "issues";
+
+    /**
+     * Parses the body of an {@code X-GitHub-Event} delivery that carries a repository.
+     */
+    public static WebhookEvent parse(String type, String deliveryId, byte[] body) {
+        try {
+            JSONObject payload = new JSONObject(new String(body, StandardCharsets.UTF_8));
+            JSONObject repository = payload.getJSONObject("repository");
+            JSONObject issue = payload.optJSONObject("issue");
+            return new WebhookEvent(
+                type,
+                payload.optString("action", null),
+                deliveryId,
+                repository.getLong("id"),
+                repository.getJSONObject("owner").getString("login"),
+                repository.getString("name"),
+                issue == null ? 0 : issue.getInt("number"),
+                payload);
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("Malformed " + type + " payload: " + e.getMessage(), e);
+        }
+    }
+
+    public String fullName() {
+        return owner + "/" + repository;
+    }
+
+    /**
+     * Whether the event concerns the repository; names are matched case-insensitively, as on GitHub.
+     */
+    public boolean isFor(String owner, String repository) {
+        return this.owner.equalsIgnoreCase(owner) && this.repository.equalsIgnoreCase(repository);
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.webhook;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * In-process fan-out of verified webhook events. Subscribers, such as WebhookCacheInvalidator,
+ * see every event. A waiter is a future completed by the first matching event, so a caller can
+ * wait for "repository X deleted" instead of polling the listing. Subscribers run first, so a
+ * completed waiter already sees the invalidated caches. Events are delivered on the publishing
+ * (request) thread.
+ */
+@Slf4j
+@Component
+public class WebhookEventBus {
+
+    private final List<Consumer<WebhookEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public void subscribe(Consumer<WebhookEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void publish(WebhookEvent event) {
+        for (Consumer<WebhookEvent> subscriber : subscribers) {
+            try {
+                subscriber.accept(event);
+            } catch (RuntimeException e) {
+                log.error("Webhook subscriber failed on {} {}", event.type(), event.deliveryId(), e);
+            }
+        }
+        for (Waiter waiter : waiters) {
+            try {
+                if (waiter.condition().test(event) && waiters.remove(waiter)) {
+                    waiter.future().complete(event);
+                }
+            } catch (RuntimeException e) {
+                waiters.remove(waiter);
+                waiter.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Future completed by the next event that matches. Register before triggering the change,
+     * or the event may arrive first. Bound the wait with orTimeout; a timed-out or cancelled
+     * future is dropped from the bus.
+     */
+    public CompletableFuture<WebhookEvent> await(Predicate<WebhookEvent> condition) {
+        Waiter waiter = new Waiter(condition, new CompletableFuture<>());
+        waiters.add(waiter);
+        waiter.future().whenComplete((event, failure) -> waiters.remove(waiter));
+        return waiter.future();
+    }
+
+    /**
+     * Waits for a {@code repository} event with the given action, such as "created" or "deleted".
+     */
+    public CompletableFuture<WebhookEvent> awaitRepository(String owner, String repository, String action) {
+        return await(event -> WebhookEvent.REPOSITORY.equals(event.type())
+            && action.equals(event.action())
+            && event.isFor(owner, repository));
+    }
+
+    /**
+     * Waits for an {@code issues} event with the given action, such as "opened" or "closed".
+     */
+    public CompletableFuture<WebhookEvent> awaitIssue(String owner, String repository, int issueNumber, String action) {
+        return await(event -> WebhookEvent.ISSUES.equals(event.type())
+            && action.equals(event.action())
+            && event.issueNumber() == issueNumber
+            && event.isFor(owner, repository));
+    }
+
+    public int getWaiterCount() {
+        return waiters.size();
+    }
+
+    private record Waiter(Predicate<WebhookEvent> condition, CompletableFuture<WebhookEvent> future) {
+    }
+}
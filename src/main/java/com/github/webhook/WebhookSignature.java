@@ -0,0 +1,46 @@
+package com.github.webhook;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * The {@code X-Hub-Signature-256} scheme GitHub uses to sign webhook deliveries. The value is
+ * "sha256=" plus the hex HMAC-SHA256 of the raw request body, keyed with the webhook secret.
+ */
+public final class WebhookSignature {
+
+    public static final String HEADER = "X-Hub-Signature-256";
+
+    private static final String PREFIX = "sha256=";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private WebhookSignature() {
+    }
+
+    public static String sign(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return PREFIX + HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    /**
+     * Checks a header value against the body in constant time, so response timing does not
+     * reveal how much of a forged signature was right.
+     */
+    public static boolean verify(String secret, byte[] body, String header) {
+        if (header == null || !header.startsWith(PREFIX)) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+            sign(secret, body).getBytes(StandardCharsets.US_ASCII),
+            header.getBytes(StandardCharsets.US_ASCII));
+    }
+}
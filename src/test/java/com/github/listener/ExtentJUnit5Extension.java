@@ -3,15 +3,23 @@ package com.github.listener;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
-import org.junit.jupiter.api.AfterAll;
+import com.github.service.RequestLogPipeline;
 import org.junit.jupiter.api.extension.*;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 public class ExtentJUnit5Extension implements BeforeTestExecutionCallback, AfterTestExecutionCallback, ParameterResolver {
 
     private static final ExtentReports extent = new ExtentReports();
     private static final ConcurrentMap<String, ExtentTest> testMap = new ConcurrentHashMap<>();
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ExtentJUnit5Extension.class);
+    private static final String FLUSH_INTERVAL_MS = "extent.flush.interval.ms";
+    private static final String FLUSH_EVERY_TESTS = "extent.flush.every.tests";
+    private static final long REQUEST_LOG_DRAIN_SECONDS = 10;
 
     static {
         ExtentSparkReporter sparkReporter = new ExtentSparkReporter("extent-report.html");
@@ -24,7 +32,8 @@ public class ExtentJUnit5Extension implements BeforeTestExecutionCallback, After
         String testName = context.getDisplayName();
         String testId = context.getUniqueId();
 
-        ExtentTest test = extent.createTest(testName);
+        // Created on the shared report; flushes wait until the test finishes (see ReportFlusher)
+        ExtentTest test = flusher(context).startTest(testName);
         testMap.put(testId, test);
 
         System.out.println("Test added to map: " + testId + " -> " + testName);
@@ -33,20 +42,52 @@ public class ExtentJUnit5Extension implements BeforeTestExecutionCallback, After
     @Override
     public void afterTestExecution(ExtensionContext context) {
         String testId = context.getUniqueId();
-        ExtentTest test = testMap.get(testId);
+        ExtentTest test = testMap.remove(testId);
 
-        if (test != null) {
-            if (context.getExecutionException().isPresent()) {
-                test.fail(context.getExecutionException().get());
+        try {
+            if (test != null) {
+                // Request/response entries are written in the background; wait for this test's
+                // before marking it finished, so none land after its status or outside the report
+                RequestLogPipeline requestLog = requestLog(context);
+                if (requestLog != null && !requestLog.drain(test, REQUEST_LOG_DRAIN_SECONDS, TimeUnit.SECONDS)) {
+                    test.warning("Request log entries were still pending after " + REQUEST_LOG_DRAIN_SECONDS + "s");
+                }
+                if (context.getExecutionException().isPresent()) {
+                    test.fail(context.getExecutionException().get());
+                } else {
+                    test.pass("Test passed");
+                }
             } else {
-                test.pass("Test passed");
+                System.err.println("Test instance not found for testId: " + testId);
             }
-        } else {
-            System.err.println("Test instance not found for testId: " + testId);
+        } finally {
+            // Releases the report lock startTest took, whatever happened above; flushes are
+            // coalesced in the background, see ReportFlusher
+            flusher(context).testFinished();
         }
+    }
 
-        // Flush after each test to update the report
-        extent.flush();
+    /**
+     * The request log pipeline of the test's Spring context, or null outside Spring tests.
+     */
+    private static RequestLogPipeline requestLog(ExtensionContext context) {
+        if (!AnnotatedElementUtils.hasAnnotation(context.getRequiredTestClass(), SpringBootTest.class)) {
+            return null;
+        }
+        return SpringExtension.getApplicationContext(context).getBeanProvider(RequestLogPipeline.class).getIfAvailable();
+    }
+
+    private static ReportFlusher flusher(ExtensionContext context) {
+        // Stored in the root context so the engine closes it (and flushes) once all tests finish
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(
+            ReportFlusher.class,
+            key -> new ReportFlusher(
+                extent,
+                context.getConfigurationParameter(FLUSH_INTERVAL_MS).map(Long::parseLong).orElse(2000L),
+                context.getConfigurationParameter(FLUSH_EVERY_TESTS).map(Integer::parseInt).orElse(25)
+            ),
+            ReportFlusher.class
+        );
     }
 
     @Override
@@ -76,10 +117,4 @@ public class ExtentJUnit5Extension implements BeforeTestExecutionCallback, After
     //     testMap.put(testId, test);
     //     return test;
     // }
-
-    @AfterAll
-    public static void closeExtentReports() {
-        extent.flush();
-        System.out.println("ExtentReports closed.");
-    }
 }
\ No newline at end of file
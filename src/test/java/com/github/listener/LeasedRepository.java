@@ -0,0 +1,8 @@
+package com.github.listener;
+
+/**
+ * A repository borrowed from the {@link RepositoryPool} for one test. It exists when the test
+ * starts and has no open issues; deleting it is allowed, as the pool notices and drops it.
+ */
+public record LeasedRepository(String owner, String name) {
+}
@@ -0,0 +1,143 @@
+package com.github.listener;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Coalesces Extent report flushes. Every flush rewrites the whole Spark HTML file, so instead of
+ * flushing after each test this flushes on a background thread every {@code intervalMillis}, or
+ * sooner once {@code everyTests} tests have finished. A final flush runs when the JUnit engine
+ * closes its root context, and at JVM shutdown only if that did not happen or tests finished since.
+ * <p>
+ * A running test holds the read side of the report lock from startTest until testFinished, and a
+ * flush takes the write side, so a flush never walks a test that is still being written to. Tests
+ * still create and log side by side: createTest is serialized here, and Extent keeps each test's
+ * logs in synchronized lists. Background flushes skip a round while any test is running, so in
+ * parallel runs the file is rewritten between tests and at the end.
+ */
+class ReportFlusher implements ExtensionContext.Store.CloseableResource {
+
+    private static final long SHUTDOWN_FLUSH_WAIT_SECONDS = 5;
+    private static final long CLOSE_FLUSH_WAIT_SECONDS = 60;
+
+    private final ExtentReports extent;
+    private final int everyTests;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger unflushedTests = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ReentrantReadWriteLock reportLock = new ReentrantReadWriteLock();
+
+    ReportFlusher(ExtentReports extent, long intervalMillis, int everyTests) {
+        this.extent = extent;
+        this.everyTests = everyTests;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "extent-report-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (intervalMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::flushIfDirty, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushAtShutdown, "extent-report-final-flush"));
+    }
+
+    /**
+     * Creates a test on the shared report. The calling thread keeps flushes out until it calls
+     * testFinished, so both must run on the same thread.
+     */
+    ExtentTest startTest(String name) {
+        reportLock.readLock().lock();
+        try {
+            synchronized (extent) {
+                return extent.createTest(name);
+            }
+        } catch (RuntimeException e) {
+            reportLock.readLock().unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Records a finished test, releasing whatever startTest took on this thread, and schedules a
+     * flush once enough tests have accumulated. Safe to call when startTest failed or never ran.
+     */
+    void testFinished() {
+        if (reportLock.getReadHoldCount() > 0) {
+            reportLock.readLock().unlock();
+        }
+        int unflushed = unflushedTests.incrementAndGet();
+        if (everyTests > 0 && unflushed >= everyTests && !closed.get()) {
+            try {
+                scheduler.execute(this::flushIfDirty);
+            } catch (RejectedExecutionException e) {
+                // close() shut the scheduler down after the check; its final flush covers this test
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            scheduler.shutdownNow();
+            flushWithin(CLOSE_FLUSH_WAIT_SECONDS);
+            System.out.println("ExtentReports closed.");
+        }
+    }
+
+    private void flushIfDirty() {
+        Lock lock = reportLock.writeLock();
+        // Tests are running; the next round or the final flush picks their results up
+        if (unflushedTests.get() > 0 && lock.tryLock()) {
+            try {
+                flushLocked();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void flushAtShutdown() {
+        // close() already wrote the final report unless tests finished after it
+        if (closed.get() && unflushedTests.get() == 0) {
+            return;
+        }
+        flushWithin(SHUTDOWN_FLUSH_WAIT_SECONDS);
+    }
+
+    /**
+     * Flushes once no test is running, waiting at most the given time so a test that never
+     * finishes cannot hang the engine or the JVM shutdown.
+     */
+    private void flushWithin(long seconds) {
+        Lock lock = reportLock.writeLock();
+        try {
+            if (!lock.tryLock(seconds, TimeUnit.SECONDS)) {
+                System.err.println("Skipped an Extent flush: tests were still running after " + seconds + "s");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            flushLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        unflushedTests.set(0);
+        extent.flush();
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.listener;
+
+import com.github.service.BulkDeleteSummary;
+import com.github.service.GitHubApiClient;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Repositories created once, in parallel, and leased to tests that only need some repository to
+ * exist. A returned repository is reset by closing its open issues rather than being recreated, and
+ * everything the pool created is deleted in one bulk call when the JUnit engine closes its root context.
+ * Only repositories whose create returned 201 are recorded for deletion.
+ */
+@Slf4j
+class RepositoryPool implements ExtensionContext.Store.CloseableResource {
+
+    // Deliberately not "test-repo-", which ListRepositoriesTest sweeps away mid-run
+    static final String NAME_PREFIX = "pool-repo-";
+
+    private final GitHubApiClient client;
+    private final String owner;
+    private final BlockingQueue<LeasedRepository> idle = new LinkedBlockingQueue<>();
+    private final Set<String> created = ConcurrentHashMap.newKeySet();
+
+    RepositoryPool(GitHubApiClient client, int size) {
+        this.client = client;
+        this.owner = client.getDefaultOwner();
+
+        List<CompletableFuture<LeasedRepository>> provisioning = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            provisioning.add(provisionAsync());
+        }
+        try {
+            provisioning.forEach(repository -> idle.add(repository.join()));
+        } catch (RuntimeException e) {
+            // A pool that fails to build never reaches the store, so close() would not run for it
+            CompletableFuture.allOf(provisioning.toArray(CompletableFuture[]::new)).exceptionally(failure -> null).join();
+            close();
+            throw e;
+        }
+        log.info("Repository pool provisioned {} repositories.", size);
+    }
+
+    /**
+     * Hands out an idle repository, creating an extra one when every pooled repository is leased.
+     */
+    LeasedRepository lease() {
+        LeasedRepository repository = idle.poll();
+        return repository != null ? repository : provisionAsync().join();
+    }
+
+    /**
+     * Closes the repository's open issues and makes it available again. Repositories the test
+     * deleted are dropped from the pool.
+     */
+    void release(LeasedRepository repository) {
+        Response issues = client.listOpenIssuesResponse(repository.owner(), repository.name(), null);
+        if (issues.getStatusCode() == 404) {
+            return;
+        }
+        if (issues.getStatusCode() != 200) {
+            log.warn("Dropping pooled repository {}: listing issues failed with status {}",
+                repository.name(), issues.getStatusCode());
+            return;
+        }
+
+        JSONArray open = new JSONArray(issues.asString());
+        List<Integer> numbers = new ArrayList<>(open.length());
+        for (int i = 0; i < open.length(); i++) {
+            numbers.add(open.getJSONObject(i).getInt("number"));
+        }
+        if (numbers.isEmpty() || !client.closeIssues(repository.owner(), repository.name(), numbers, null).hasFailures()) {
+            idle.add(repository);
+        } else {
+            log.warn("Dropping pooled repository {}: could not close its issues", repository.name());
+        }
+    }
+
+    @Override
+    public void close() {
+        BulkDeleteSummary summary = client.deleteRepositories(List.copyOf(created), null);
+        if (summary.hasFailures()) {
+            log.error("Failed to delete pooled repositories: {}", summary.failed());
+        }
+        log.info("Repository pool deleted {} repositories.", summary.deleted().size());
+    }
+
+    private CompletableFuture<LeasedRepository> provisionAsync() {
+        String name = NAME_PREFIX + UUID.randomUUID().toString().substring(0, 8);
+        return client.createRepositoryResponseAsync(name, "Pooled repository for tests", false, null)
+            .thenApply(response -> {
+                if (response.getStatusCode() != 201) {
+                    throw new IllegalStateException(
+                        "Provisioning pooled repository " + name + " failed with status " + response.getStatusCode());
+                }
+                created.add(name);
+                return new LeasedRepository(owner, name);
+            });
+    }
+}
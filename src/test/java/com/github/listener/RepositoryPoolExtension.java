@@ -0,0 +1,62 @@
+package com.github.listener;
+
+import com.github.service.GitHubApiClient;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Injects {@link LeasedRepository} parameters from a suite-wide {@link RepositoryPool} and hands the
+ * repositories back after each test. The pool is created on first use with
+ * {@code github.repository.pool.size} repositories and lives in the root context, so it is shared by
+ * every test class and torn down once at the end of the run.
+ */
+public class RepositoryPoolExtension implements ParameterResolver, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RepositoryPoolExtension.class);
+    private static final String POOL_SIZE = "github.repository.pool.size";
+    private static final String LEASES = "leases";
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType().equals(LeasedRepository.class);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        LeasedRepository repository = pool(extensionContext).lease();
+        leases(extensionContext).add(repository);
+        return repository;
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        @SuppressWarnings("unchecked")
+        List<LeasedRepository> leases = context.getStore(NAMESPACE).remove(LEASES, List.class);
+        if (leases != null) {
+            RepositoryPool pool = pool(context);
+            leases.forEach(pool::release);
+        }
+    }
+
+    private static RepositoryPool pool(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(
+            RepositoryPool.class,
+            key -> new RepositoryPool(
+                SpringExtension.getApplicationContext(context).getBean(GitHubApiClient.class),
+                context.getConfigurationParameter(POOL_SIZE).map(Integer::parseInt).orElse(4)
+            ),
+            RepositoryPool.class
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<LeasedRepository> leases(ExtensionContext context) {
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(LEASES, key -> new ArrayList<LeasedRepository>(), List.class);
+    }
+}
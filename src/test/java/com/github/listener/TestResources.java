@@ -0,0 +1,17 @@
+package com.github.listener;
+
+/**
+ * Keys for {@code @ResourceLock} when the suite runs in parallel (the {@code parallel} Maven profile).
+ */
+public final class TestResources {
+
+    /**
+     * The authenticated account's repository listing. Tests that only create, lease or delete their
+     * own repositories take it in READ mode and run side by side. Tests that sweep repositories by
+     * name or assert on the complete listing take READ_WRITE and run alone.
+     */
+    public static final String REPOSITORIES = "github.repositories";
+
+    private TestResources() {
+    }
+}
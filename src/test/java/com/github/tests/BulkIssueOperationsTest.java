@@ -0,0 +1,85 @@
+package com.github.tests;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.github.listener.ExtentJUnit5Extension;
+import com.github.listener.LeasedRepository;
+import com.github.listener.RepositoryPoolExtension;
+import com.github.listener.TestResources;
+import com.github.model.CreateIssueRequest;
+import com.github.service.BulkIssueResult;
+import com.github.service.BulkIssueSummary;
+import com.github.service.GitHubApiClient;
+import org.json.JSONArray;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ExtendWith({ExtentJUnit5Extension.class, RepositoryPoolExtension.class})
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ)
+class BulkIssueOperationsTest {
+
+    private static final int ISSUES = 30;
+
+    @Autowired
+    private GitHubApiClient gitHubApiClient;
+
+    @Test
+    @DisplayName("testCreateIssues_ResultsInInputOrder")
+    void testCreateIssuesInOrder(ExtentTest test, LeasedRepository repository) {
+        List<CreateIssueRequest> issues = new ArrayList<>();
+        IntStream.range(0, ISSUES).forEach(i -> issues.add(new CreateIssueRequest("Bulk issue " + i, "Body " + i)));
+        // An untitled issue is rejected with 422 and must be reported at its own position
+        issues.set(7, new CreateIssueRequest("", "No title"));
+
+        BulkIssueSummary summary = gitHubApiClient.createIssues(repository.owner(), repository.name(), issues, test);
+
+        assertEquals(ISSUES, summary.total());
+        assertEquals(ISSUES - 1, summary.succeeded().size());
+        assertEquals(1, summary.failed().size());
+        assertEquals(422, summary.results().get(7).statusCode());
+        for (int i = 0; i < ISSUES; i++) {
+            if (i != 7) {
+                BulkIssueResult result = summary.results().get(i);
+                assertEquals("\"Bulk issue " + i + "\"", result.item(), "Results must follow input order.");
+                assertEquals(201, result.statusCode());
+                assertNotNull(result.number());
+            }
+        }
+        assertEquals(ISSUES - 1, summary.succeeded().stream().map(BulkIssueResult::number).distinct().count());
+        assertTrue(summary.toReport().contains("[7] \"\" -> status 422"), summary.toReport());
+        test.log(Status.PASS, "Created " + summary.succeeded().size() + " issues with one expected failure.");
+    }
+
+    @Test
+    @DisplayName("testCloseIssues_ClosesAllAndReportsMissing")
+    void testCloseIssues(ExtentTest test, LeasedRepository repository) {
+        List<CreateIssueRequest> issues = IntStream.range(0, ISSUES)
+            .mapToObj(i -> new CreateIssueRequest("To close " + i, null))
+            .toList();
+        List<Integer> numbers = new ArrayList<>(gitHubApiClient.createIssues(repository.owner(), repository.name(), issues, test)
+            .succeeded().stream().map(BulkIssueResult::number).toList());
+        numbers.add(0, 999_999);
+
+        BulkIssueSummary summary = gitHubApiClient.closeIssues(repository.owner(), repository.name(), numbers, test);
+
+        assertEquals(ISSUES + 1, summary.total());
+        assertEquals(404, summary.results().get(0).statusCode(), "A missing issue fails on its own.");
+        assertEquals(numbers, summary.results().stream().map(BulkIssueResult::number).toList());
+        assertEquals(ISSUES, summary.succeeded().size());
+
+        JSONArray open = new JSONArray(gitHubApiClient.listOpenIssuesResponse(repository.owner(), repository.name(), test).asString());
+        assertEquals(0, open.length(), "Every issue should have been closed.");
+        test.log(Status.PASS, "Closed " + ISSUES + " issues in bulk.");
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.tests;
+
+import com.github.service.ConditionalRequestCache;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalRequestCacheTest {
+
+    private static final String USER_URL = "https://api.github.com/user";
+
+    @Test
+    @DisplayName("testKey_DiffersPerCredential")
+    void testKeyDiffersPerCredential() {
+        String first = ConditionalRequestCache.key(USER_URL, "token-a");
+        String second = ConditionalRequestCache.key(USER_URL, "token-b");
+
+        assertNotEquals(first, second, "Different tokens must not share cache entries.");
+        assertEquals(first, ConditionalRequestCache.key(USER_URL, "token-a"));
+        assertFalse(first.contains("token-a"), "Raw token must not appear in the cache key.");
+    }
+
+    @Test
+    @DisplayName("testCache_EvictsLeastRecentlyUsed")
+    void testCacheEvictsLeastRecentlyUsed() {
+        ConditionalRequestCache cache = new ConditionalRequestCache(2);
+        cache.put("a", "\"etag-a\"", "A");
+        cache.put("b", "\"etag-b\"", "B");
+
+        assertNotNull(cache.get("a"));
+        cache.put("c", "\"etag-c\"", "C");
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"), "Least recently used entry should have been evicted.");
+        assertEquals("\"etag-a\"", cache.get("a").etag());
+        assertEquals("C", cache.get("c").value());
+    }
+
+    @Test
+    @DisplayName("testInvalidateUrl_DropsSubPathsForEveryCredential")
+    void testInvalidateUrl() {
+        ConditionalRequestCache cache = new ConditionalRequestCache(16);
+        String repo = "https://api.github.com/repos/octocat/app";
+        cache.put(ConditionalRequestCache.key(repo, "token-a"), "\"1\"", "A");
+        cache.put(ConditionalRequestCache.key(repo, "token-b"), "\"2\"", "B");
+        cache.put(ConditionalRequestCache.key(repo + "/issues?state=open", "token-a"), "\"3\"", "C");
+        cache.put(ConditionalRequestCache.key(repo + "2", "token-a"), "\"4\"", "D");
+
+        assertEquals(3, cache.invalidateUrl(repo));
+
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get(ConditionalRequestCache.key(repo + "2", "token-a")),
+            "A repository whose name merely starts with the same text must be kept.");
+    }
+}
@@ -4,12 +4,16 @@ import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.github.config.GitHubProperties;
 import com.github.listener.ExtentJUnit5Extension;
-import com.github.model.Repository;
+import com.github.listener.LeasedRepository;
+import com.github.listener.RepositoryPoolExtension;
+import com.github.listener.TestResources;
 import com.github.service.GitHubApiClient;
 import io.restassured.response.Response;
 import org.json.JSONObject;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -18,7 +22,8 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
-@ExtendWith(ExtentJUnit5Extension.class)
+@ExtendWith({ExtentJUnit5Extension.class, RepositoryPoolExtension.class})
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ)
 class CreateIssueTest {
 
     @Autowired
@@ -29,109 +34,46 @@ class CreateIssueTest {
 
     @Test
     @DisplayName("testCreateIssue_Success")
-    void testCreateIssue(ExtentTest test) {
-        String repoName = "test-repo-" + UUID.randomUUID().toString().substring(0, 8);
+    void testCreateIssue(ExtentTest test, LeasedRepository repository) {
+        String owner = repository.owner();
+        String repoName = repository.name();
         String title = "Test Issue JUnit 5 - " + UUID.randomUUID().toString().substring(0, 6);
         String bodyText = "This is a sample issue created by a JUnit 5 test.";
 
-        test.log(Status.INFO, "Creating repository: " + repoName);
-
-        try {
-            Response createRepoResponse = gitHubApiClient.createRepositoryResponse(
-                    repoName,
-                    "Repository created for issue test",
-                    false,
-                    test
-            );
-            assertEquals(201, createRepoResponse.getStatusCode(), "Repository creation failed.");
-            test.log(Status.PASS, "Repository created successfully: " + repoName);
-
-            Repository createdRepo = gitHubApiClient.createRepositoryAsObject(createRepoResponse);
-            assertNotNull(createdRepo, "Created repository is null.");
-            assertEquals(repoName, createdRepo.getName(), "Repository name mismatch.");
-            test.log(Status.PASS, "Verified repository name: " + repoName);
-
-            String owner = gitHubApiClient.getDefaultOwner();
-
-            test.log(Status.INFO, "Creating an issue in repository: " + repoName);
-            Response issueResponse = gitHubApiClient.createIssueResponse(owner, repoName, title, bodyText, test);
-            assertEquals(201, issueResponse.getStatusCode(), "Issue creation failed.");
-            test.log(Status.PASS, "Issue created successfully with title: " + title);
-
-            JSONObject issueJson = gitHubApiClient.createIssueAsJson(issueResponse);
-            assertNotNull(issueJson, "Issue JSON should not be null.");
-            assertEquals(title, issueJson.optString("title"), "Issue title mismatch.");
-            test.log(Status.PASS, "Verified issue title: " + title);
-
-            String issueNumber = String.valueOf(issueJson.optInt("number"));
-            String issueUrl = issueJson.optString("html_url");
-            test.log(Status.PASS, "Issue URL: " + issueUrl);
-
-            Response closeIssueResponse = gitHubApiClient.closeIssueResponse(owner, repoName, issueNumber, test);
-            assertEquals(200, closeIssueResponse.getStatusCode(), "Closing issue failed.");
-            test.log(Status.PASS, "Issue closed successfully: #" + issueNumber);
-
-        } finally {
-            test.log(Status.INFO, "Cleaning up repository: " + repoName);
-            Response deleteResponse = gitHubApiClient.deleteRepositoryResponse(repoName, test);
-            if (deleteResponse.getStatusCode() == 204) {
-                test.log(Status.PASS, "Repository deleted successfully: " + repoName);
-            } else if (deleteResponse.getStatusCode() == 404) {
-                test.log(Status.PASS, "Repository already deleted or does not exist: " + repoName);
-            } else {
-                test.log(Status.WARNING, "Failed to delete repository (status " 
-                    + deleteResponse.getStatusCode() + ").");
-            }
-        }
+        test.log(Status.INFO, "Creating an issue in pooled repository: " + repoName);
+        Response issueResponse = gitHubApiClient.createIssueResponse(owner, repoName, title, bodyText, test);
+        assertEquals(201, issueResponse.getStatusCode(), "Issue creation failed.");
+        test.log(Status.PASS, "Issue created successfully with title: " + title);
+
+        JSONObject issueJson = gitHubApiClient.createIssueAsJson(issueResponse);
+        assertNotNull(issueJson, "Issue JSON should not be null.");
+        assertEquals(title, issueJson.optString("title"), "Issue title mismatch.");
+        test.log(Status.PASS, "Verified issue title: " + title);
+
+        String issueNumber = String.valueOf(issueJson.optInt("number"));
+        String issueUrl = issueJson.optString("html_url");
+        test.log(Status.PASS, "Issue URL: " + issueUrl);
+
+        Response closeIssueResponse = gitHubApiClient.closeIssueResponse(owner, repoName, issueNumber, test);
+        assertEquals(200, closeIssueResponse.getStatusCode(), "Closing issue failed.");
+        test.log(Status.PASS, "Issue closed successfully: #" + issueNumber);
     }
 
     @Test
     @DisplayName("testCreateIssueWithoutTitle_Failure")
-    void testCreateIssueWithoutTitle(ExtentTest test) {
-        String repoName = "test-repo-" + UUID.randomUUID().toString().substring(0, 8);
+    void testCreateIssueWithoutTitle(ExtentTest test, LeasedRepository repository) {
+        String repoName = repository.name();
         String title = "";
         String bodyText = "Issue without a title should fail.";
 
-        test.log(Status.INFO, "Creating repository: " + repoName);
-
-        try {
-            Response createRepoResponse = gitHubApiClient.createRepositoryResponse(
-                    repoName,
-                    "Repository created for issue test",
-                    false,
-                    test
-            );
-            assertEquals(201, createRepoResponse.getStatusCode(), "Repository creation failed.");
-            test.log(Status.PASS, "Repository created successfully: " + repoName);
-
-            Repository createdRepo = gitHubApiClient.createRepositoryAsObject(createRepoResponse);
-            assertNotNull(createdRepo, "Created repository is null.");
-            assertEquals(repoName, createdRepo.getName(), "Repository name mismatch.");
-            test.log(Status.PASS, "Verified repository name: " + repoName);
-
-            String owner = gitHubApiClient.getDefaultOwner();
-
-            test.log(Status.INFO, "Attempting to create an issue without a title in repository: " + repoName);
-            Response issueResponse = gitHubApiClient.createIssueResponse(owner, repoName, title, bodyText, test);
-            assertEquals(422, issueResponse.getStatusCode(), "Expected HTTP 422 Unprocessable Entity for missing title.");
-            test.log(Status.PASS, "Received expected HTTP 422 status code for missing title.");
-
-            String responseBody = issueResponse.getBody().asString();
-            assertTrue(responseBody.contains("title"), "Response should indicate the issue with the missing title.");
-            test.log(Status.PASS, "Response indicates the issue with the missing title.");
-
-        } finally {
-            test.log(Status.INFO, "Cleaning up repository: " + repoName);
-            Response deleteResponse = gitHubApiClient.deleteRepositoryResponse(repoName, test);
-            if (deleteResponse.getStatusCode() == 204) {
-                test.log(Status.PASS, "Repository deleted successfully: " + repoName);
-            } else if (deleteResponse.getStatusCode() == 404) {
-                test.log(Status.PASS, "Repository already deleted or does not exist: " + repoName);
-            } else {
-                test.log(Status.WARNING, "Failed to delete repository (status " 
-                    + deleteResponse.getStatusCode() + ").");
-            }
-        }
+        test.log(Status.INFO, "Attempting to create an issue without a title in pooled repository: " + repoName);
+        Response issueResponse = gitHubApiClient.createIssueResponse(repository.owner(), repoName, title, bodyText, test);
+        assertEquals(422, issueResponse.getStatusCode(), "Expected HTTP 422 Unprocessable Entity for missing title.");
+        test.log(Status.PASS, "Received expected HTTP 422 status code for missing title.");
+
+        String responseBody = issueResponse.getBody().asString();
+        assertTrue(responseBody.contains("title"), "Response should indicate the issue with the missing title.");
+        test.log(Status.PASS, "Response indicates the issue with the missing title.");
     }
 
     @Test
@@ -151,45 +93,14 @@ class CreateIssueTest {
 
     @Test
     @DisplayName("testCreateIssueWithoutAuthorization_Failure")
-    void testCreateIssueWithoutAuthorization_Failure(ExtentTest test) {
-        String repoName = "test-repo-" + UUID.randomUUID().toString().substring(0, 6);
-        String owner = gitHubProperties.getDefaultProps().getOwner();
+    void testCreateIssueWithoutAuthorization_Failure(ExtentTest test, LeasedRepository repository) {
+        String repoName = repository.name();
         String title = "Unauthorized Issue Creation";
         String bodyText = "This issue creation should fail due to lack of authorization.";
 
-        test.log(Status.INFO, "Creating repository: " + repoName);
-
-        try {
-            Response createRepoResponse = gitHubApiClient.createRepositoryResponse(
-                    repoName,
-                    "Repository created for unauthorized issue creation test",
-                    false,
-                    test
-            );
-            assertEquals(201, createRepoResponse.getStatusCode(), "Repository creation failed.");
-            test.log(Status.PASS, "Repository created successfully: " + repoName);
-
-            Repository createdRepo = gitHubApiClient.createRepositoryAsObject(createRepoResponse);
-            assertNotNull(createdRepo, "Created repository is null.");
-            assertEquals(repoName, createdRepo.getName(), "Repository name mismatch.");
-            test.log(Status.PASS, "Verified repository name: " + repoName);
-
-            test.log(Status.INFO, "Attempting to create an issue without authorization in repository: " + repoName);
-            Response issueResponse = gitHubApiClient.createIssueUnauthorizedResponse(owner, repoName, title, bodyText, test);
-            assertEquals(401, issueResponse.getStatusCode(), "Creating issue without authorization should return 401");
-            test.log(Status.PASS, "Issue creation without authorization failed as expected with status 401");
-
-        } finally {
-            test.log(Status.INFO, "Cleaning up repository: " + repoName);
-            Response deleteResponse = gitHubApiClient.deleteRepositoryResponse(repoName, test);
-            if (deleteResponse.getStatusCode() == 204) {
-                test.log(Status.PASS, "Repository deleted successfully: " + repoName);
-            } else if (deleteResponse.getStatusCode() == 404) {
-                test.log(Status.PASS, "Repository already deleted or does not exist: " + repoName);
-            } else {
-                test.log(Status.WARNING, "Failed to delete repository (status " 
-                    + deleteResponse.getStatusCode() + ").");
-            }
-        }
+        test.log(Status.INFO, "Attempting to create an issue without authorization in pooled repository: " + repoName);
+        Response issueResponse = gitHubApiClient.createIssueUnauthorizedResponse(repository.owner(), repoName, title, bodyText, test);
+        assertEquals(401, issueResponse.getStatusCode(), "Creating issue without authorization should return 401");
+        test.log(Status.PASS, "Issue creation without authorization failed as expected with status 401");
     }
 }
\ No newline at end of file
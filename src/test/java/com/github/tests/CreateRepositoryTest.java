@@ -3,11 +3,14 @@ package com.github.tests;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.github.listener.ExtentJUnit5Extension;
+import com.github.listener.TestResources;
 import com.github.model.Repository;
 import com.github.service.GitHubApiClient;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -17,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ExtendWith(ExtentJUnit5Extension.class)
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ)
 class CreateRepositoryTest {
 
     @Autowired
@@ -53,6 +57,8 @@ class CreateRepositoryTest {
             assertEquals(repositoryName, createdRepo.getName(),
                 "Repository name should match the requested name.");
             test.log(Status.PASS, "Repository name matches the expected name.");
+            assertFalse(createdRepo.isPrivateRepo(), "Repository should be public as requested.");
+            assertTrue(createdRepo.getHtmlUrl().endsWith("/" + repositoryName), "html_url should point at the new repository.");
 
             // Log repository URL
             test.log(Status.INFO, "Created repository URL: " + createdRepo.getHtmlUrl());
@@ -0,0 +1,108 @@
+package com.github.tests;
+
+import com.github.config.GitHubProperties;
+import com.github.service.CredentialPool;
+import com.github.service.RateLimitScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CredentialPoolTest {
+
+    private static final String FULL = "token-full";
+    private static final String LOW = "token-low";
+
+    private RateLimitScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        GitHubProperties.RateLimit settings = new GitHubProperties.RateLimit();
+        settings.setEnabled(false);
+        scheduler = new RateLimitScheduler(settings, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("testAcquire_RotatesRegardlessOfReportedQuota")
+    void testAcquireRotates() {
+        long reset = nowSeconds() + 3600;
+        observe(FULL, 4900, reset);
+        observe(LOW, 100, reset);
+        CredentialPool pool = pool(Duration.ofMinutes(1));
+
+        int fullPicks = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (FULL.equals(pool.acquire())) {
+                fullPicks++;
+            }
+        }
+
+        assertEquals(500, fullPicks, "Tokens of one account share its quota, so they take turns.");
+        assertEquals(2, pool.getAvailableCount());
+    }
+
+    @Test
+    @DisplayName("testVerifySameAccount_SharesOneRateLimitBudget")
+    void testVerifySameAccountSharesBudget() {
+        long reset = nowSeconds() + 3600;
+        observe(LOW, 4999, reset);
+        CredentialPool pool = pool(Duration.ofMinutes(1));
+        pool.verifySameAccount(token -> "octocat");
+
+        observe(FULL, 42, reset);
+
+        assertEquals(42, scheduler.getRemaining(LOW), "Quota reported for one token is the account's quota.");
+        assertEquals(reset * 1000, scheduler.getResetEpochMillis(LOW));
+    }
+
+    @Test
+    @DisplayName("testReport_QuarantinesUnauthorizedTokenTemporarily")
+    void testReportQuarantinesUnauthorizedToken() throws InterruptedException {
+        CredentialPool pool = pool(Duration.ofMillis(200));
+
+        pool.report(LOW, response(401));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(FULL, pool.acquire());
+        }
+
+        Thread.sleep(300);
+        assertEquals(2, pool.getAvailableCount(), "Token should rejoin the rotation after the quarantine.");
+    }
+
+    @Test
+    @DisplayName("testVerifySameAccount_RejectsTokenOfAnotherAccount")
+    void testVerifySameAccount() {
+        CredentialPool pool = pool(Duration.ofMinutes(1));
+
+        assertDoesNotThrow(() -> pool.verifySameAccount(token -> token.equals(FULL) ? "octocat" : "OctoCat"));
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> pool.verifySameAccount(token -> token.equals(FULL) ? "octocat" : "someone-else"));
+        assertTrue(e.getMessage().contains("someone-else"));
+        assertFalse(e.getMessage().contains(LOW), "Tokens must not appear in the message.");
+    }
+
+    private CredentialPool pool(Duration quarantine) {
+        return new CredentialPool(List.of(FULL, LOW), quarantine, scheduler, new SimpleMeterRegistry());
+    }
+
+    private void observe(String token, long remaining, long resetEpochSeconds) {
+        scheduler.execute(token, () -> new ResponseBuilder().setStatusCode(200)
+            .setHeader("X-RateLimit-Remaining", String.valueOf(remaining))
+            .setHeader("X-RateLimit-Reset", String.valueOf(resetEpochSeconds))
+            .build());
+    }
+
+    private static Response response(int statusCode) {
+        return new ResponseBuilder().setStatusCode(statusCode).setHeaders(new Headers()).build();
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
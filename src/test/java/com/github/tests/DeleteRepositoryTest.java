@@ -3,11 +3,17 @@ package com.github.tests;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.github.listener.ExtentJUnit5Extension;
+import com.github.listener.LeasedRepository;
+import com.github.listener.RepositoryPoolExtension;
+import com.github.listener.TestResources;
 import com.github.model.Repository;
+import com.github.service.BulkDeleteSummary;
 import com.github.service.GitHubApiClient;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -17,7 +23,8 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
-@ExtendWith(ExtentJUnit5Extension.class)
+@ExtendWith({ExtentJUnit5Extension.class, RepositoryPoolExtension.class})
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ)
 class DeleteRepositoryTest {
 
     @Autowired
@@ -25,62 +32,34 @@ class DeleteRepositoryTest {
 
     @BeforeEach
     void setUp() {
-        // No setup required as each test manages its own repository
+        // No setup required; repositories are leased from the pool
     }
 
     @Test
     @DisplayName("testDeleteRepository_Success")
-    void testDeleteRepository(ExtentTest test) {
-        String randomName = "test-repo-" + UUID.randomUUID().toString().substring(0, 6);
-        test.log(Status.INFO, "Creating repository: " + randomName);
-
-        try {
-            // Create repository
-            Response createResponse = gitHubApiClient.createRepositoryResponse(
-                randomName,
-                "Repository created for deletion test",
-                false,
-                test
-            );
-            assertEquals(201, createResponse.getStatusCode(), "Repository creation failed.");
-
-            Repository createdRepo = gitHubApiClient.createRepositoryAsObject(createResponse);
-            assertNotNull(createdRepo, "Created repository is null.");
-            test.log(Status.PASS, "Repository created: " + randomName);
-
-            test.log(Status.INFO, "Deleting the repository: " + randomName);
-
-            // Delete repository
-            Response deleteResponse = gitHubApiClient.deleteRepositoryResponse(randomName, test);
-            assertEquals(204, deleteResponse.getStatusCode(), "Repository should be deleted successfully");
-            test.log(Status.PASS, "Repository was deleted successfully");
-
-            // Verify deletion by listing repositories
-            test.log(Status.INFO, "Verifying deletion by listing repositories");
-            Response listResp = gitHubApiClient.listRepositoriesResponse(test);
-            assertEquals(200, listResp.getStatusCode(), "Failed to list repositories.");
-            List<Repository> repositories = gitHubApiClient.listRepositoriesAsObjects(listResp);
-            assertNotNull(repositories, "Repository list is null.");
-            assertFalse(repositories.stream().anyMatch(repo -> repo.getName().equals(randomName)),
-                "Deleted repository should not be present in the list");
-            test.log(Status.PASS, "Verified that repository is no longer present");
-        } finally {
-            // Cleanup in case deletion failed
-            test.log(Status.INFO, "Cleaning up repository: " + randomName);
-            Response deleteResponse = gitHubApiClient.deleteRepositoryResponse(randomName, test);
-            if (deleteResponse.getStatusCode() == 204) {
-                test.log(Status.PASS, "Repository cleaned up successfully.");
-            } else if (deleteResponse.getStatusCode() == 404) {
-                test.log(Status.PASS, "Repository already deleted or does not exist.");
-            } else {
-                test.log(Status.WARNING, "Failed to clean up repository (status " 
-                    + deleteResponse.getStatusCode() + ").");
-            }
-        }
+    void testDeleteRepository(ExtentTest test, LeasedRepository repository) {
+        // The pool drops leased repositories that no longer exist, so no cleanup is needed
+        String repoName = repository.name();
+        test.log(Status.INFO, "Deleting the pooled repository: " + repoName);
+
+        Response deleteResponse = gitHubApiClient.deleteRepositoryResponse(repoName, test);
+        assertEquals(204, deleteResponse.getStatusCode(), "Repository should be deleted successfully");
+        test.log(Status.PASS, "Repository was deleted successfully");
+
+        // Verify deletion by listing repositories
+        test.log(Status.INFO, "Verifying deletion by listing repositories");
+        Response listResp = gitHubApiClient.listRepositoriesResponse(test);
+        assertEquals(200, listResp.getStatusCode(), "Failed to list repositories.");
+        List<Repository> repositories = gitHubApiClient.listRepositoriesAsObjects(listResp);
+        assertNotNull(repositories, "Repository list is null.");
+        assertFalse(repositories.stream().anyMatch(repo -> repo.getName().equals(repoName)),
+            "Deleted repository should not be present in the list");
+        test.log(Status.PASS, "Verified that repository is no longer present");
     }
 
     @Test
     @DisplayName("testDeleteNonExistentRepository_Failure")
+    @ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ_WRITE)
     void testDeleteNonExistentRepository(ExtentTest test) {
         // Precondition: Delete all repositories with 'test-repo' in the name to ensure no leftovers
         test.log(Status.INFO, "Precondition: Deleting all repositories with 'test-repo' in the name");
@@ -89,20 +68,14 @@ class DeleteRepositoryTest {
 
         List<Repository> existingRepos = gitHubApiClient.listRepositoriesAsObjects(listResp);
         if (existingRepos != null) {
-            existingRepos.stream()
-                .filter(repo -> repo.getName().contains("test-repo"))
-                .forEach(repo -> {
-                    test.log(Status.INFO, "Deleting existing repository: " + repo.getName());
-                    Response deleteResp = gitHubApiClient.deleteRepositoryResponse(repo.getName(), test);
-                    if (deleteResp.getStatusCode() == 204) {
-                        test.log(Status.PASS, "Repository deleted: " + repo.getName());
-                    } else if (deleteResp.getStatusCode() == 404) {
-                        test.log(Status.WARNING, "Repository already deleted or does not exist: " + repo.getName());
-                    } else {
-                        test.log(Status.WARNING, "Failed to delete repository " + repo.getName() + " (status " 
-                            + deleteResp.getStatusCode() + ").");
-                    }
-                });
+            List<String> leftovers = existingRepos.stream()
+                .map(Repository::getName)
+                .filter(name -> name.contains("test-repo"))
+                .toList();
+            BulkDeleteSummary summary = gitHubApiClient.deleteRepositories(leftovers, test);
+            if (summary.hasFailures()) {
+                test.log(Status.WARNING, "Failed to delete repositories: " + summary.failed());
+            }
         }
 
         String nonExistentRepo = "non-existent-repo-" + UUID.randomUUID().toString().substring(0, 6);
@@ -116,47 +89,18 @@ class DeleteRepositoryTest {
 
     @Test
     @DisplayName("testDeleteRepositoryWithoutAuthorization_Failure")
-    void testDeleteRepositoryWithoutAuthorization(ExtentTest test) {
-        String randomName = "test-repo-" + UUID.randomUUID().toString().substring(0, 6);
-        test.log(Status.INFO, "Precondition: Creating repository for unauthorized deletion test: " + randomName);
-
-        try {
-            // Create repository
-            Response createResponse = gitHubApiClient.createRepositoryResponse(
-                randomName,
-                "Repository created for unauthorized deletion test",
-                false,
-                test
-            );
-            assertEquals(201, createResponse.getStatusCode(), "Repository creation failed.");
-
-            Repository createdRepo = gitHubApiClient.createRepositoryAsObject(createResponse);
-            assertNotNull(createdRepo, "Created repository is null.");
-            test.log(Status.PASS, "Repository created: " + randomName);
-
-            test.log(Status.INFO, "Attempting to delete repository without authorization: " + randomName);
-
-            // Attempt unauthorized deletion
-            Response deleteResponse = gitHubApiClient.deleteRepositoryUnauthorizedResponse(randomName, test);
-            assertEquals(401, deleteResponse.getStatusCode(), "Deleting without authorization should return 401");
-            test.log(Status.PASS, "Unauthorized deletion attempt failed as expected with status 401");
-        } finally {
-            // Cleanup repository if it wasn't deleted
-            test.log(Status.INFO, "Cleaning up repository: " + randomName);
-            Response deleteResponse = gitHubApiClient.deleteRepositoryResponse(randomName, test);
-            if (deleteResponse.getStatusCode() == 204) {
-                test.log(Status.PASS, "Repository cleaned up successfully.");
-            } else if (deleteResponse.getStatusCode() == 404) {
-                test.log(Status.PASS, "Repository already deleted or does not exist.");
-            } else {
-                test.log(Status.WARNING, "Failed to clean up repository (status " 
-                    + deleteResponse.getStatusCode() + ").");
-            }
-        }
+    void testDeleteRepositoryWithoutAuthorization(ExtentTest test, LeasedRepository repository) {
+        String repoName = repository.name();
+        test.log(Status.INFO, "Attempting to delete pooled repository without authorization: " + repoName);
+
+        // Attempt unauthorized deletion; the repository stays intact and goes back to the pool
+        Response deleteResponse = gitHubApiClient.deleteRepositoryUnauthorizedResponse(repoName, test);
+        assertEquals(401, deleteResponse.getStatusCode(), "Deleting without authorization should return 401");
+        test.log(Status.PASS, "Unauthorized deletion attempt failed as expected with status 401");
     }
 
     @AfterEach
     void tearDown() {
-        // No teardown required as cleanup is handled within each test
+        // No teardown required; RepositoryPoolExtension returns leased repositories
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.github.tests;
+
+import com.github.config.GitHubProperties;
+import com.github.model.UserProfile;
+import com.github.service.DiskResponseCache;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiskResponseCacheTest {
+
+    private static final String USER_KEY = "https://api.github.com/user#0123abcd";
+    private static final String REPOS_KEY = "https://api.github.com/user/repos#0123abcd";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("testCache_SurvivesReopen")
+    void testCacheSurvivesReopen() {
+        DiskResponseCache cache = cache(DataSize.ofMegabytes(1));
+        cache.put(USER_KEY, "\"v1\"", bytes("{\"login\":\"octocat\",\"id\":1}"));
+        cache.put(USER_KEY, "\"v2\"", bytes("{\"login\":\"octocat\",\"id\":2}"));
+        cache.put(REPOS_KEY, "\"r1\"", bytes("[]"));
+        cache.close();
+
+        DiskResponseCache reopened = cache(DataSize.ofMegabytes(1));
+        try {
+            assertEquals(2, reopened.size());
+            DiskResponseCache.Entry user = reopened.get(USER_KEY);
+            assertEquals("\"v2\"", user.etag(), "The latest record for a key wins.");
+            UserProfile profile = user.toResponse().as(UserProfile.class);
+            assertEquals("octocat", profile.getLogin());
+            assertEquals(2L, profile.getId());
+            assertArrayEquals(bytes("[]"), reopened.get(REPOS_KEY).body());
+            assertNull(reopened.get("https://api.github.com/user#other"));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("testCache_TruncatesTornTail")
+    void testCacheTruncatesTornTail() throws Exception {
+        DiskResponseCache cache = cache(DataSize.ofMegabytes(1));
+        cache.put(USER_KEY, "\"v1\"", bytes("{\"login\":\"octocat\"}"));
+        cache.close();
+        Path segment = segments().findFirst().orElseThrow();
+        long intactSize = Files.size(segment);
+        // A record header promising more bytes than were written, as after a crash mid-write
+        Files.write(segment, new byte[]{0x47, 0x48, 0x43, 0x31, 0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+
+        DiskResponseCache reopened = cache(DataSize.ofMegabytes(1));
+        try {
+            assertEquals("\"v1\"", reopened.get(USER_KEY).etag());
+            assertEquals(intactSize, Files.size(segment), "The torn record should have been cut off.");
+            reopened.put(REPOS_KEY, "\"r1\"", bytes("[]"));
+            assertEquals("\"r1\"", reopened.get(REPOS_KEY).etag());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("testCache_RollsAndCompactsSegments")
+    void testCacheRollsAndCompactsSegments() throws Exception {
+        DiskResponseCache cache = cache(DataSize.ofBytes(512));
+        for (int i = 0; i < 20; i++) {
+            cache.put(USER_KEY + i, "\"v" + i + "\"", bytes("{\"login\":\"octocat\",\"id\":" + i + "}"));
+        }
+        assertTrue(cache.getSegmentCount() > 1, "Segments should roll over at the configured size.");
+        for (int i = 0; i < 20; i++) {
+            cache.put(USER_KEY + i, "\"w" + i + "\"", bytes("{\"login\":\"octocat\",\"id\":" + i + "}"));
+        }
+        cache.close();
+
+        DiskResponseCache reopened = cache(DataSize.ofBytes(512));
+        try {
+            assertEquals(20, reopened.size());
+            assertEquals("\"w7\"", reopened.get(USER_KEY + 7).etag());
+            assertEquals(reopened.getSegmentCount(), segments().count(), "Compacted segments should be deleted.");
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("testCache_CompactsWhileRunning")
+    void testCacheCompactsWhileRunning() throws Exception {
+        DiskResponseCache cache = cache(DataSize.ofBytes(512));
+        long liveBytes;
+        try {
+            for (int i = 0; i < 100; i++) {
+                cache.put(USER_KEY, "\"v" + i + "\"", bytes("{\"login\":\"octocat\",\"id\":" + i + "}"));
+                assertTrue(segments().count() <= 2, "Superseded records should be compacted without a restart.");
+            }
+            assertEquals("\"v99\"", cache.get(USER_KEY).etag());
+            liveBytes = cache.getLiveBytes();
+            assertTrue(liveBytes > 0);
+        } finally {
+            cache.close();
+        }
+
+        DiskResponseCache reopened = cache(DataSize.ofBytes(512));
+        try {
+            assertEquals(liveBytes, reopened.getLiveBytes(), "Compaction should leave the byte accounting as a rescan finds it.");
+            assertEquals(1, reopened.invalidateUrl("https://api.github.com/user"));
+            assertEquals(0, reopened.getLiveBytes());
+            assertNull(reopened.get(USER_KEY));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("testCache_SecondOwnerRunsWithoutCache")
+    void testSecondOwnerRunsWithoutCache() {
+        DiskResponseCache owner = cache(DataSize.ofMegabytes(1));
+        DiskResponseCache second = cache(DataSize.ofMegabytes(1));
+        try {
+            assertTrue(owner.isEnabled());
+            assertFalse(second.isEnabled(), "Only one cache instance may write to a directory.");
+            second.put(USER_KEY, "\"v1\"", bytes("{}"));
+            assertNull(owner.get(USER_KEY));
+        } finally {
+            second.close();
+            owner.close();
+        }
+    }
+
+    private DiskResponseCache cache(DataSize segmentSize) {
+        GitHubProperties.Cache.Disk settings = new GitHubProperties.Cache.Disk();
+        settings.setEnabled(true);
+        settings.setDirectory(directory.toString());
+        settings.setSegmentSize(segmentSize);
+        return new DiskResponseCache(settings);
+    }
+
+    private Stream<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-")).toList().stream();
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
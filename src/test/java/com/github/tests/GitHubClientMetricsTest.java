@@ -0,0 +1,83 @@
+package com.github.tests;
+
+import com.github.listener.TestResources;
+import com.github.service.GitHubApiClient;
+import com.github.service.GitHubClientMetrics;
+import com.github.service.TokenFingerprint;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.builder.ResponseBuilder;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ)
+class GitHubClientMetricsTest {
+
+    @Autowired
+    private GitHubApiClient gitHubApiClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("testClientCalls_RecordedPerEndpointTemplate")
+    void testClientCallsRecordedPerEndpointTemplate() {
+        String repoName = "test-repo-" + UUID.randomUUID().toString().substring(0, 6);
+        gitHubApiClient.createRepositoryResponse(repoName, "Repository created by metrics test", false, null);
+        gitHubApiClient.deleteRepositoryResponse(repoName, null);
+        gitHubApiClient.deleteRepositoryResponse(repoName, null);
+
+        Timer deleted = meterRegistry.find(GitHubClientMetrics.REQUESTS)
+            .tags("method", "DELETE", "uri", "/repos/{owner}/{repo}", "status", "204")
+            .timer();
+        assertNotNull(deleted, "Deletes should be tagged with the endpoint template, not the repository name.");
+        assertTrue(deleted.count() >= 1);
+        assertNotNull(meterRegistry.find(GitHubClientMetrics.RESPONSES)
+            .tags("uri", "/repos/{owner}/{repo}", "status", "404", "outcome", "CLIENT_ERROR")
+            .counter());
+        assertTrue(meterRegistry.find(GitHubClientMetrics.REQUESTS).tag("uri", "/repos/" + repoName).timers().isEmpty());
+    }
+
+    @Test
+    @DisplayName("testRateLimitGauges_ReportRemainingAndReset")
+    void testRateLimitGaugesReportRemainingAndReset() {
+        gitHubApiClient.getUserProfileResponse(null);
+
+        // Unauthorized tests create budgets of their own, so look up the configured credential's
+        String credential = TokenFingerprint.of(gitHubApiClient.getToken());
+        Gauge remaining = meterRegistry.find("github.ratelimit.remaining").tag("credential", credential).gauge();
+        Gauge reset = meterRegistry.find("github.ratelimit.reset").tag("credential", credential).gauge();
+        assertNotNull(remaining);
+        assertNotNull(reset);
+        assertTrue(remaining.value() >= 0, "Remaining quota should come from the stub's X-RateLimit headers.");
+        assertTrue(reset.value() > System.currentTimeMillis() / 1000.0 - 1);
+    }
+
+    @Test
+    @DisplayName("testInFlightGauge_CountsOnlyWhileRequestRuns")
+    void testInFlightGaugeCountsOnlyWhileRequestRuns() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GitHubClientMetrics metrics = new GitHubClientMetrics(registry);
+
+        assertThrows(IllegalStateException.class, () -> metrics.record("GET", "/user", () -> {
+            assertEquals(1.0, registry.get(GitHubClientMetrics.IN_FLIGHT).gauge().value());
+            throw new IllegalStateException("connection reset");
+        }));
+        metrics.record("GET", "/user", () -> new ResponseBuilder().setStatusCode(200).build());
+
+        assertEquals(0.0, registry.get(GitHubClientMetrics.IN_FLIGHT).gauge().value());
+        assertEquals(1, registry.get(GitHubClientMetrics.REQUESTS).tags("status", "IO_ERROR").timer().count());
+        assertEquals(1, registry.get(GitHubClientMetrics.REQUESTS).tags("status", "200", "outcome", "SUCCESS")
+            .timer().count());
+    }
+}
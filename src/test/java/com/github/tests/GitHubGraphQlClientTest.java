@@ -0,0 +1,90 @@
+package com.github.tests;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.github.listener.ExtentJUnit5Extension;
+import com.github.listener.TestResources;
+import com.github.model.Repository;
+import com.github.service.GitHubApiClient;
+import com.github.service.GitHubGraphQlClient;
+import com.github.service.GitHubGraphQlClient.ViewerSnapshot;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ExtendWith(ExtentJUnit5Extension.class)
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ_WRITE)
+class GitHubGraphQlClientTest {
+
+    @Autowired
+    private GitHubGraphQlClient gitHubGraphQlClient;
+
+    @Autowired
+    private GitHubApiClient gitHubApiClient;
+
+    @Test
+    @DisplayName("testFetchViewer_ProfileAndRepositoriesInOneRequest")
+    void testFetchViewerProfileAndRepositories(ExtentTest test) {
+        String prefix = "graphql-" + UUID.randomUUID().toString().substring(0, 6) + "-";
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            names.add(prefix + i);
+            assertEquals(201, gitHubApiClient.createRepositoryResponse(prefix + i, "GraphQL test", i == 0, test)
+                .getStatusCode());
+        }
+
+        try {
+            ViewerSnapshot snapshot = gitHubGraphQlClient.fetchViewer(100, null, test);
+
+            assertEquals(gitHubApiClient.getDefaultOwner(), snapshot.profile().getLogin());
+            assertNotNull(snapshot.profile().getId());
+            List<Repository> created = snapshot.repositories().nodes().stream()
+                .filter(repository -> repository.getName().startsWith(prefix))
+                .toList();
+            assertEquals(3, created.size());
+            assertTrue(created.get(0).isPrivateRepo());
+            assertEquals("GraphQL test", created.get(1).getDescription());
+            assertTrue(created.get(1).getHtmlUrl().endsWith("/" + prefix + 1));
+            assertNotNull(created.get(2).getUpdatedAt(), "updatedAt should map like REST updated_at.");
+            test.log(Status.PASS, "Fetched profile and " + snapshot.repositories().totalCount() + " repositories.");
+        } finally {
+            gitHubApiClient.deleteRepositories(names, test);
+        }
+    }
+
+    @Test
+    @DisplayName("testFetchViewer_FollowsCursorPages")
+    void testFetchViewerFollowsCursorPages(ExtentTest test) {
+        String prefix = "graphql-" + UUID.randomUUID().toString().substring(0, 6) + "-";
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            names.add(prefix + i);
+            gitHubApiClient.createRepositoryResponse(prefix + i, "GraphQL paging test", false, test);
+        }
+
+        try {
+            ViewerSnapshot firstPage = gitHubGraphQlClient.fetchViewer(1, null, test);
+            assertEquals(1, firstPage.repositories().nodes().size());
+            assertTrue(firstPage.repositories().hasNextPage());
+            ViewerSnapshot secondPage = gitHubGraphQlClient.fetchViewer(1, firstPage.repositories().endCursor(), test);
+            assertNotEquals(firstPage.repositories().nodes().get(0).getName(),
+                secondPage.repositories().nodes().get(0).getName());
+
+            ViewerSnapshot all = gitHubGraphQlClient.fetchViewerWithAllRepositories(test);
+            assertEquals(all.repositories().totalCount(), all.repositories().nodes().size());
+            assertTrue(all.repositories().nodes().stream().map(Repository::getName).toList().containsAll(names));
+        } finally {
+            gitHubApiClient.deleteRepositories(names, test);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.tests;
+
+import com.github.service.GitHubRequestExecutor;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitHubRequestExecutorTest {
+
+    @Test
+    @DisplayName("testExecutor_CapsRequestsInFlight")
+    void testExecutorCapsRequestsInFlight() {
+        GitHubRequestExecutor executor = new GitHubRequestExecutor(8);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        try {
+            List<CompletableFuture<Integer>> futures = IntStream.range(0, 200)
+                .mapToObj(i -> executor.submit(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return i;
+                }))
+                .toList();
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            assertEquals(199, futures.get(199).join());
+            assertTrue(peak.get() <= 8, "No more than 8 calls should run at once, saw " + peak.get());
+            assertEquals(0, executor.getInFlight());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("testExecutor_RunsOnVirtualThreads")
+    void testExecutorRunsOnVirtualThreads() {
+        GitHubRequestExecutor executor = new GitHubRequestExecutor(1);
+        try {
+            assertTrue(executor.submit(() -> Thread.currentThread().isVirtual()).join());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.tests;
+
+import com.github.config.GitHubProperties;
+import com.github.stub.GitHubStubServer;
+import com.github.service.RepositoryPageIterator;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitHubStubServerTest {
+
+    private static final String TOKEN = "stub-token";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private GitHubProperties.Stub settings;
+    private GitHubStubServer server;
+
+    @BeforeEach
+    void setUp() {
+        settings = new GitHubProperties.Stub();
+        server = new GitHubStubServer(settings, "octocat", List.of(TOKEN));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("testConcurrentCreate_OnlyOneWinsPerName")
+    void testConcurrentCreateOnlyOneWins() {
+        List<CompletableFuture<Integer>> attempts = IntStream.range(0, 20)
+            .mapToObj(i -> CompletableFuture.supplyAsync(
+                () -> send("POST", "/user/repos", "{\"name\":\"race-repo\"}", TOKEN).statusCode()))
+            .toList();
+
+        List<Integer> statuses = attempts.stream().map(CompletableFuture::join).toList();
+
+        assertEquals(1, statuses.stream().filter(status -> status == 201).count());
+        assertEquals(19, statuses.stream().filter(status -> status == 422).count());
+        assertEquals(1, server.getState().repositoryCount());
+    }
+
+    @Test
+    @DisplayName("testIssueLifecycle_CreateCloseAndDelete")
+    void testIssueLifecycle() {
+        assertEquals(201, send("POST", "/user/repos", "{\"name\":\"issues-repo\"}", TOKEN).statusCode());
+
+        HttpResponse<String> issue = send("POST", "/repos/octocat/issues-repo/issues", "{\"title\":\"Bug\"}", TOKEN);
+        assertEquals(201, issue.statusCode());
+        assertTrue(issue.body().contains("\"number\":1"));
+        assertEquals(422, send("POST", "/repos/octocat/issues-repo/issues", "{\"title\":\"\"}", TOKEN).statusCode());
+
+        HttpResponse<String> closed = send("PATCH", "/repos/octocat/issues-repo/issues/1", "{\"state\":\"closed\"}", TOKEN);
+        assertEquals(200, closed.statusCode());
+        assertTrue(closed.body().contains("\"state\":\"closed\""));
+        assertEquals(404, send("PATCH", "/repos/octocat/issues-repo/issues/2", "{\"state\":\"closed\"}", TOKEN).statusCode());
+
+        assertEquals(204, send("DELETE", "/repos/octocat/issues-repo", null, TOKEN).statusCode());
+        assertEquals(404, send("DELETE", "/repos/octocat/issues-repo", null, TOKEN).statusCode());
+        assertEquals(404, send("POST", "/repos/octocat/issues-repo/issues", "{\"title\":\"Bug\"}", TOKEN).statusCode());
+    }
+
+    @Test
+    @DisplayName("testListRepositories_PagesWithLinkHeaderAndEtag")
+    void testListRepositoriesPages() {
+        for (int i = 0; i < 5; i++) {
+            send("POST", "/user/repos", "{\"name\":\"repo-" + i + "\"}", TOKEN);
+        }
+
+        HttpResponse<String> first = send("GET", "/user/repos?per_page=2", null, TOKEN);
+        String next = RepositoryPageIterator.nextPageUrl(first.headers().firstValue("Link").orElse(null));
+        assertEquals(server.getBaseUrl() + "/user/repos?per_page=2&page=2", next);
+
+        HttpResponse<String> last = send("GET", "/user/repos?per_page=2&page=3", null, TOKEN);
+        assertTrue(last.body().contains("repo-4"));
+        assertTrue(last.headers().firstValue("Link").isEmpty(), "Last page should not link onwards.");
+
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+        HttpRequest conditional = request("GET", "/user/repos?per_page=2", null, TOKEN)
+            .header("If-None-Match", etag)
+            .build();
+        assertEquals(304, sendRequest(conditional).statusCode());
+    }
+
+    @Test
+    @DisplayName("testRateLimit_ExhaustedTokenGets403WithHeaders")
+    void testRateLimitExhausted() {
+        settings.getRateLimit().setLimit(2);
+
+        assertEquals("1", send("GET", "/user", null, TOKEN).headers().firstValue("X-RateLimit-Remaining").orElseThrow());
+        assertEquals(200, send("GET", "/user", null, TOKEN).statusCode());
+        HttpResponse<String> limited = send("GET", "/user", null, TOKEN);
+
+        assertEquals(403, limited.statusCode());
+        assertEquals("0", limited.headers().firstValue("X-RateLimit-Remaining").orElseThrow());
+        assertTrue(limited.headers().firstValue("X-RateLimit-Reset").isPresent());
+        assertEquals(401, send("GET", "/user", null, "other-token").statusCode());
+    }
+
+    @Test
+    @DisplayName("testFaultInjection_ErrorRateAndLatency")
+    void testFaultInjection() {
+        settings.setErrorRate(1.0);
+        settings.setErrorStatus(503);
+        settings.getLatency().setDistribution(GitHubProperties.Stub.Latency.Distribution.FIXED);
+        settings.getLatency().setMean(Duration.ofMillis(50));
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = send("GET", "/user", null, TOKEN);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(503, response.statusCode());
+        assertTrue(elapsedMillis >= 50, "Fixed latency should delay the response, took " + elapsedMillis + "ms");
+    }
+
+    private HttpResponse<String> send(String method, String path, String body, String token) {
+        return sendRequest(request(method, path, body, token).build());
+    }
+
+    private HttpRequest.Builder request(String method, String path, String body, String token) {
+        return HttpRequest.newBuilder(URI.create(server.getBaseUrl() + path))
+            .header("Authorization", "Bearer " + token)
+            .method(method, body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private HttpResponse<String> sendRequest(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -3,11 +3,18 @@ package com.github.tests;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.github.listener.ExtentJUnit5Extension;
+import com.github.listener.LeasedRepository;
+import com.github.listener.RepositoryPoolExtension;
+import com.github.listener.TestResources;
 import com.github.model.Repository;
+import com.github.model.RepositoryTable;
+import com.github.service.BulkDeleteSummary;
 import com.github.service.GitHubApiClient;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -17,7 +24,8 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
-@ExtendWith(ExtentJUnit5Extension.class)
+@ExtendWith({ExtentJUnit5Extension.class, RepositoryPoolExtension.class})
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ_WRITE)
 class ListRepositoriesTest {
 
     @Autowired
@@ -25,53 +33,41 @@ class ListRepositoriesTest {
 
     @BeforeEach
     void setUp() {
-        // No setup required as each test manages its own repository
+        // No setup required; repositories are leased from the pool or created per test
     }
 
     @Test
     @DisplayName("testListUserRepositories_Success")
-    void testListUserRepositories(ExtentTest test) {
-        String randomName = "test-repo-" + UUID.randomUUID().toString().substring(0, 6);
-        test.log(Status.INFO, "Creating repository: " + randomName);
+    void testListUserRepositories(ExtentTest test, LeasedRepository repository) {
+        test.log(Status.INFO, "Listing user repositories.");
 
-        try {
-            Response createResponse = gitHubApiClient.createRepositoryResponse(
-                randomName,
-                "Repository created for list test",
-                false,
-                test
-            );
-            assertEquals(201, createResponse.getStatusCode(), "Repository creation failed.");
+        Response listResp = gitHubApiClient.listRepositoriesResponse(test);
+        assertEquals(200, listResp.getStatusCode(), "Failed to list repositories.");
 
-            Repository createdRepo = gitHubApiClient.createRepositoryAsObject(createResponse);
-            assertNotNull(createdRepo, "Created repository is null.");
-            test.log(Status.PASS, "Repository created: " + randomName);
+        List<Repository> repositories = gitHubApiClient.listRepositoriesAsObjects(listResp);
+        assertNotNull(repositories, "Repository list is null.");
+        assertFalse(repositories.isEmpty(), "Repository list is empty.");
+        assertTrue(repositories.stream().anyMatch(repo -> repo.getName().equals(repository.name())),
+            "Pooled repository not found in the list.");
 
-            test.log(Status.INFO, "Listing user repositories.");
-
-            Response listResp = gitHubApiClient.listRepositoriesResponse(test);
-            assertEquals(200, listResp.getStatusCode(), "Failed to list repositories.");
+        test.log(Status.PASS, "Repositories listed successfully and pooled repository is present.");
+    }
 
-            List<Repository> repositories = gitHubApiClient.listRepositoriesAsObjects(listResp);
-            assertNotNull(repositories, "Repository list is null.");
-            assertFalse(repositories.isEmpty(), "Repository list is empty.");
-            assertTrue(repositories.stream().anyMatch(repo -> repo.getName().equals(randomName)),
-                "Created repository not found in the list.");
+    @Test
+    @DisplayName("testLoadRepositoryTable_MatchesListing")
+    void testLoadRepositoryTable(ExtentTest test, LeasedRepository repository) {
+        test.log(Status.INFO, "Loading all repositories into a repository table.");
 
-            test.log(Status.PASS, "Repositories listed successfully and created repository is present.");
-        } finally {
-            test.log(Status.INFO, "Cleaning up repository: " + randomName);
-            Response deleteResponse = gitHubApiClient.deleteRepositoryResponse(randomName, test);
+        RepositoryTable table = gitHubApiClient.loadRepositoryTable(test);
 
-            if (deleteResponse.getStatusCode() == 204) {
-                test.log(Status.PASS, "Repository cleaned up successfully.");
-            } else if (deleteResponse.getStatusCode() == 404) {
-                test.log(Status.WARNING, "Repository already deleted or does not exist.");
-            } else {
-                test.log(Status.WARNING, "Failed to clean up repository (status " 
-                    + deleteResponse.getStatusCode() + ").");
-            }
+        List<Repository> repositories = gitHubApiClient.streamRepositories(test).toList();
+        assertEquals(repositories.size(), table.size(), "Table and listing should hold the same repositories.");
+        for (Repository expected : repositories) {
+            assertEquals(expected, table.findById(expected.getId()));
         }
+        assertTrue(repositories.stream().anyMatch(repo -> repo.getName().equals(repository.name())),
+            "Pooled repository not found in the table.");
+        test.log(Status.PASS, "Repository table holds all " + table.size() + " repositories.");
     }
 
     @Test
@@ -84,20 +80,14 @@ class ListRepositoriesTest {
 
         List<Repository> existingRepos = gitHubApiClient.listRepositoriesAsObjects(listResp);
         if (existingRepos != null) {
-            existingRepos.stream()
-                .filter(repo -> repo.getName().contains("test-repo"))
-                .forEach(repo -> {
-                    test.log(Status.INFO, "Deleting repository: " + repo.getName());
-                    Response deleteResponse = gitHubApiClient.deleteRepositoryResponse(repo.getName(), test);
-                    if (deleteResponse.getStatusCode() == 204) {
-                        test.log(Status.PASS, "Repository deleted: " + repo.getName());
-                    } else if (deleteResponse.getStatusCode() == 404) {
-                        test.log(Status.WARNING, "Repository already deleted or does not exist: " + repo.getName());
-                    } else {
-                        test.log(Status.WARNING, "Failed to delete repository " + repo.getName() + " (status " 
-                            + deleteResponse.getStatusCode() + ").");
-                    }
-                });
+            List<String> leftovers = existingRepos.stream()
+                .map(Repository::getName)
+                .filter(name -> name.contains("test-repo"))
+                .toList();
+            BulkDeleteSummary summary = gitHubApiClient.deleteRepositories(leftovers, test);
+            if (summary.hasFailures()) {
+                test.log(Status.WARNING, "Failed to delete repositories: " + summary.failed());
+            }
         }
 
         String randomName = "test-repo-" + UUID.randomUUID().toString().substring(0, 6);
@@ -0,0 +1,106 @@
+package com.github.tests;
+
+import com.github.config.GitHubProperties;
+import com.github.listener.TestResources;
+import com.github.load.LoadGenerator;
+import com.github.load.LoadReport;
+import com.github.service.GitHubApiClient;
+import com.github.stub.GitHubStubServer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ)
+class LoadGeneratorTest {
+
+    @Autowired
+    private GitHubApiClient gitHubApiClient;
+
+    @Autowired
+    private GitHubStubServer stubServer;
+
+    @Test
+    @DisplayName("testLoadRun_RecordsEveryOperationAndCleansUp")
+    void testLoadRunRecordsOperations() {
+        GitHubProperties.Load settings = new GitHubProperties.Load();
+        settings.setDuration(Duration.ofSeconds(2));
+        settings.setConcurrency(4);
+
+        LoadReport report = new LoadGenerator(gitHubApiClient, settings).run();
+
+        assertEquals(5, report.operations().size());
+        assertTrue(report.total().count() > 0, "The run should have issued requests.");
+        assertEquals(0, report.total().errors(), report.format());
+        assertEquals(report.total().count(),
+            report.operations().stream().mapToLong(LoadReport.OperationReport::count).sum());
+        assertTrue(report.total().percentileMillis(99) >= report.total().percentileMillis(50));
+        assertTrue(stubServer.getState().listRepositories().stream()
+                .noneMatch(repository -> repository.name().startsWith("load-")),
+            "Repositories created by the run should be deleted afterwards.");
+    }
+
+    @Test
+    @DisplayName("testLoadRun_NeverExceedsMaxRepositories")
+    @ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ_WRITE)
+    void testMaxRepositoriesHolds() throws InterruptedException {
+        GitHubProperties.Load settings = new GitHubProperties.Load();
+        settings.setDuration(Duration.ofSeconds(1));
+        settings.setConcurrency(8);
+        settings.setMaxRepositories(2);
+        settings.getMix().setList(0);
+        settings.getMix().setCreateIssue(0);
+        settings.getMix().setCloseIssue(0);
+        settings.getMix().setDelete(0);
+
+        AtomicInteger peak = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = Thread.ofVirtual().start(() -> {
+            while (running.get()) {
+                long live = stubServer.getState().listRepositories().stream()
+                    .filter(repository -> repository.name().startsWith("load-"))
+                    .count();
+                peak.accumulateAndGet((int) live, Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        try {
+            new LoadGenerator(gitHubApiClient, settings).run();
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+
+        assertTrue(peak.get() > 0, "The run should have created repositories.");
+        assertTrue(peak.get() <= 2, "Eight workers creating at once must still respect the cap, saw " + peak.get());
+    }
+
+    @Test
+    @DisplayName("testReportFormat_HasRowPerOperationAndTotal")
+    void testReportFormat() {
+        GitHubProperties.Load settings = new GitHubProperties.Load();
+        settings.setDuration(Duration.ofMillis(300));
+        settings.setConcurrency(1);
+        settings.setRate(5);
+
+        String table = new LoadGenerator(gitHubApiClient, settings).run().format();
+
+        assertTrue(table.contains("p99.9"));
+        for (String row : new String[]{"create-repository", "list-repositories", "create-issue", "close-issue",
+            "delete-repository", "total"}) {
+            assertTrue(table.contains(row), "Missing row " + row + " in:\n" + table);
+        }
+    }
+}
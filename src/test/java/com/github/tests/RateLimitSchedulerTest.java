@@ -0,0 +1,108 @@
+package com.github.tests;
+
+import com.github.config.GitHubProperties;
+import com.github.service.RateLimitScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitSchedulerTest {
+
+    private static final String TOKEN = "token-a";
+
+    @Test
+    @DisplayName("testScheduler_RetriesAfterRetryAfter")
+    void testSchedulerRetriesAfterRetryAfter() {
+        RateLimitScheduler scheduler = scheduler(0, 1);
+        AtomicInteger calls = new AtomicInteger();
+
+        Response response = scheduler.execute(TOKEN, () -> calls.incrementAndGet() == 1
+            ? new ResponseBuilder().setStatusCode(429).setHeader("Retry-After", "1").build()
+            : ok());
+
+        assertEquals(200, response.getStatusCode(), "Rate-limited call should be retried after Retry-After.");
+        assertEquals(2, calls.get());
+        assertTrue(scheduler.getThrottledMillis() >= 900, "Caller should have been parked for about a second.");
+    }
+
+    @Test
+    @DisplayName("testScheduler_DoesNotRetryPermissionDenied")
+    void testSchedulerDoesNotRetryPermissionDenied() {
+        RateLimitScheduler scheduler = scheduler(0, 1);
+        AtomicInteger calls = new AtomicInteger();
+
+        Response response = scheduler.execute(TOKEN, () -> {
+            calls.incrementAndGet();
+            return new ResponseBuilder().setStatusCode(403).setHeader("X-RateLimit-Remaining", "4999").build();
+        });
+
+        assertEquals(403, response.getStatusCode());
+        assertEquals(1, calls.get(), "A plain 403 is not a rate limit and must not be retried.");
+    }
+
+    @Test
+    @DisplayName("testScheduler_TracksRemainingPerCredential")
+    void testSchedulerTracksRemainingPerCredential() {
+        RateLimitScheduler scheduler = scheduler(0, 1);
+        long reset = System.currentTimeMillis() / 1000 + 3600;
+
+        scheduler.execute(TOKEN, () -> new ResponseBuilder().setStatusCode(200)
+            .setHeader("X-RateLimit-Remaining", "42")
+            .setHeader("X-RateLimit-Reset", String.valueOf(reset))
+            .build());
+
+        assertEquals(42, scheduler.getRemaining(TOKEN));
+        assertEquals(reset * 1000, scheduler.getResetEpochMillis(TOKEN));
+        assertEquals(-1, scheduler.getRemaining("token-b"), "Other credentials must have their own budget.");
+    }
+
+    @Test
+    @DisplayName("testScheduler_PacesWithTokenBucket")
+    void testSchedulerPacesWithTokenBucket() {
+        RateLimitScheduler scheduler = scheduler(20, 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            scheduler.execute(TOKEN, RateLimitSchedulerTest::ok);
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(elapsedMillis >= 180, "Five calls at 20 req/s with burst 1 should take about 200ms, took " + elapsedMillis);
+        assertTrue(scheduler.getThrottledCalls() >= 3, "Calls beyond the burst should have been paced.");
+    }
+
+    @Test
+    @DisplayName("testScheduler_TryReserveNeverParks")
+    void testSchedulerTryReserveNeverParks() {
+        RateLimitScheduler scheduler = scheduler(1, 1);
+
+        assertTrue(scheduler.tryReserve(TOKEN), "The burst permit is free.");
+        long start = System.nanoTime();
+        assertFalse(scheduler.tryReserve(TOKEN), "An empty bucket refuses instead of going into debt.");
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 100);
+        assertEquals(0, scheduler.getThrottledCalls());
+
+        RateLimitScheduler unpaced = scheduler(0, 1);
+        unpaced.execute(TOKEN, () -> new ResponseBuilder().setStatusCode(200).setHeader("Retry-After", "60").build());
+        assertFalse(unpaced.tryReserve(TOKEN), "A credential told to back off has no spare budget.");
+    }
+
+    private static Response ok() {
+        return new ResponseBuilder().setStatusCode(200).setHeaders(new Headers()).build();
+    }
+
+    private static RateLimitScheduler scheduler(double requestsPerSecond, int burst) {
+        GitHubProperties.RateLimit settings = new GitHubProperties.RateLimit();
+        settings.setRequestsPerSecond(requestsPerSecond);
+        settings.setBurst(burst);
+        settings.setMaxRetries(2);
+        return new RateLimitScheduler(settings, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.tests;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.github.listener.ExtentJUnit5Extension;
+import com.github.listener.TestResources;
+import com.github.service.GitHubApiClient;
+import com.github.service.RepositoryIndex;
+import com.github.stub.GitHubStubServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ExtendWith(ExtentJUnit5Extension.class)
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ_WRITE)
+class RepositoryIndexTest {
+
+    @Autowired
+    private GitHubApiClient gitHubApiClient;
+
+    @Autowired
+    private GitHubStubServer stubServer;
+
+    private RepositoryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = gitHubApiClient.getRepositoryIndex();
+        gitHubApiClient.rebuildRepositoryIndex(null);
+    }
+
+    @Test
+    @DisplayName("testWriteThrough_CreateAndDeleteVisibleWithoutSync")
+    void testWriteThrough(ExtentTest test) {
+        String name = randomName();
+
+        Response created = gitHubApiClient.createRepositoryResponse(name, "Index write-through", false, test);
+        assertEquals(201, created.getStatusCode());
+        assertTrue(index.contains(name), "A created repository should be indexed immediately.");
+        assertTrue(index.findByName(name.toUpperCase()).isPresent(), "Names are matched case-insensitively.");
+        long id = index.findByName(name).orElseThrow().getId();
+        assertEquals(name, index.findById(id).orElseThrow().getName());
+
+        assertEquals(204, gitHubApiClient.deleteRepositoryResponse(name, test).getStatusCode());
+        assertFalse(index.contains(name), "A deleted repository should leave the index immediately.");
+        assertTrue(index.findById(id).isEmpty());
+        test.log(Status.PASS, "Create and delete were written through to the index.");
+    }
+
+    @Test
+    @DisplayName("testSync_PicksUpRemoteChangesFromFirstPage")
+    void testIncrementalSync(ExtentTest test) {
+        String first = randomName();
+        String second = randomName();
+        // Created behind the client's back, as another process would
+        stubServer.getState().createRepository(first, null, false);
+        stubServer.getState().createRepository(second, null, false);
+        try {
+            RepositoryIndex.SyncResult result = gitHubApiClient.syncRepositoryIndex(test);
+
+            assertFalse(result.notModified());
+            assertEquals(1, result.requests(), "Sync should stop at the first unchanged repository.");
+            assertEquals(2, result.updated());
+            assertTrue(index.contains(first));
+            assertTrue(index.contains(second));
+            test.log(Status.PASS, "Incremental sync fetched only the changed repositories.");
+        } finally {
+            gitHubApiClient.deleteRepositories(List.of(first, second), test);
+        }
+    }
+
+    @Test
+    @DisplayName("testSync_WriteThroughDoesNotHideEarlierRemoteChange")
+    void testSyncAfterRemoteChangeAndLocalCreate(ExtentTest test) {
+        String remote = randomName();
+        String local = randomName();
+        stubServer.getState().createRepository(remote, null, false);
+        // Written through, so the index already holds the newest entry of the listing
+        assertEquals(201, gitHubApiClient.createRepositoryResponse(local, null, false, test).getStatusCode());
+        try {
+            RepositoryIndex.SyncResult result = gitHubApiClient.syncRepositoryIndex(test);
+
+            assertTrue(index.contains(remote), "The remote change is older than the write-through but newer than the last sync.");
+            assertEquals(1, result.updated(), "The written-through repository is already current.");
+            test.log(Status.PASS, "Sync read past the written-through repository to the remote change.");
+        } finally {
+            gitHubApiClient.deleteRepositories(List.of(remote, local), test);
+        }
+    }
+
+    @Test
+    @DisplayName("testSync_NotModifiedWhenNothingChanged")
+    void testNotModifiedSync(ExtentTest test) {
+        int size = index.size();
+
+        RepositoryIndex.SyncResult result = gitHubApiClient.syncRepositoryIndex(test);
+
+        assertTrue(result.notModified(), "An unchanged listing should be answered with 304.");
+        assertEquals(1, result.requests());
+        assertEquals(0, result.updated());
+        assertEquals(size, index.size());
+        test.log(Status.PASS, "Unchanged listing was revalidated with a single 304.");
+    }
+
+    @Test
+    @DisplayName("testRebuild_DropsRepositoriesDeletedElsewhere")
+    void testRebuildDropsRemoteDeletions(ExtentTest test) {
+        String name = randomName();
+        assertEquals(201, gitHubApiClient.createRepositoryResponse(name, null, false, test).getStatusCode());
+        stubServer.getState().deleteRepository(gitHubApiClient.getDefaultOwner(), name);
+
+        gitHubApiClient.syncRepositoryIndex(test);
+        assertTrue(index.contains(name), "An incremental sync cannot see remote deletions.");
+
+        gitHubApiClient.rebuildRepositoryIndex(test);
+        assertFalse(index.contains(name), "A rebuild should drop repositories deleted elsewhere.");
+        assertTrue(index.isSynced());
+        test.log(Status.PASS, "Rebuild removed the remotely deleted repository.");
+    }
+
+    private static String randomName() {
+        return "index-repo-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.tests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.model.Repository;
+import com.github.service.RepositoryJsonReader;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryJsonReaderTest {
+
+    private static final String PAGE = """
+        [
+          {
+            "id": 1296269,
+            "node_id": "MDEwOlJlcG9zaXRvcnkxMjk2MjY5",
+            "name": "Hello-World",
+            "owner": {"login": "octocat", "id": 1, "plan": {"name": "pro"}},
+            "private": true,
+            "html_url": "https://github.com/octocat/Hello-World",
+            "description": "This your first repo!",
+            "topics": ["octocat", "api"]
+          },
+          {
+            "id": 42,
+            "name": "test-repo-abc123",
+            "private": false,
+            "description": null,
+            "html_url": "https://github.com/octocat/test-repo-abc123"
+          }
+        ]
+        """;
+
+    @Test
+    @DisplayName("testReadList_MapsKnownFieldsAndSkipsUnknown")
+    void testReadListMapsKnownFields() {
+        List<Repository> repositories = RepositoryJsonReader.readList(body(PAGE));
+
+        assertEquals(2, repositories.size());
+        Repository first = repositories.get(0);
+        assertEquals(1296269L, first.getId());
+        assertEquals("Hello-World", first.getName());
+        assertTrue(first.isPrivateRepo());
+        assertEquals("https://github.com/octocat/Hello-World", first.getHtmlUrl());
+        assertEquals("This your first repo!", first.getDescription());
+
+        Repository second = repositories.get(1);
+        assertEquals("test-repo-abc123", second.getName());
+        assertFalse(second.isPrivateRepo());
+        assertNull(second.getDescription());
+    }
+
+    @Test
+    @DisplayName("testRead_StreamsToConsumer")
+    void testReadStreamsToConsumer() {
+        AtomicInteger count = new AtomicInteger();
+
+        RepositoryJsonReader.read(body(PAGE), repo -> count.incrementAndGet());
+        RepositoryJsonReader.read(body("[]"), repo -> fail("Empty array should not produce repositories."));
+
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    @DisplayName("testObjectMapper_AgreesWithReader")
+    void testObjectMapperAgreesWithReader() throws IOException {
+        String json = """
+            {"id": 7, "name": "app", "private": true, "html_url": "https://github.com/octocat/app",
+             "description": null, "updated_at": "2024-05-01T10:00:00Z", "owner": {"login": "octocat"}}
+            """;
+
+        Repository mapped = new ObjectMapper().readValue(json, Repository.class);
+
+        assertEquals(RepositoryJsonReader.readOne(body(json)), mapped);
+        assertTrue(mapped.isPrivateRepo());
+        assertEquals("https://github.com/octocat/app", mapped.getHtmlUrl());
+        assertEquals("2024-05-01T10:00:00Z", mapped.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("testRead_RejectsNonArrayBody")
+    void testReadRejectsNonArrayBody() {
+        assertThrows(IllegalStateException.class,
+            () -> RepositoryJsonReader.readList(body("{\"message\":\"Bad credentials\"}")));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.tests;
+
+import com.github.model.Repository;
+import com.github.service.RepositoryPageIterator;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryPaginationTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("testNextPageUrl_ParsesLinkHeader")
+    void testNextPageUrl() {
+        String linkHeader = "<https://api.github.com/user/repos?per_page=100&page=1>; rel=\"prev\", "
+            + "<https://api.github.com/user/repos?per_page=100&page=3>; rel=\"next\", "
+            + "<https://api.github.com/user/repos?per_page=100&page=9>; rel=\"last\"";
+
+        assertEquals("https://api.github.com/user/repos?per_page=100&page=3",
+            RepositoryPageIterator.nextPageUrl(linkHeader));
+        assertNull(RepositoryPageIterator.nextPageUrl("<https://api.github.com/user/repos?page=1>; rel=\"first\""));
+        assertNull(RepositoryPageIterator.nextPageUrl(null));
+    }
+
+    @Test
+    @DisplayName("testIterator_FollowsAllPages")
+    void testIteratorFollowsAllPages() {
+        Map<String, RepositoryPageIterator.Page> pages = Map.of(
+            "page1", new RepositoryPageIterator.Page(List.of(repository(1), repository(2)), "page2"),
+            "page2", new RepositoryPageIterator.Page(List.of(), "page3"),
+            "page3", new RepositoryPageIterator.Page(List.of(repository(3)), null)
+        );
+
+        List<Long> ids = new ArrayList<>();
+        new RepositoryPageIterator("page1", pages::get, executor)
+            .forEachRemaining(repo -> ids.add(repo.getId()));
+
+        assertEquals(List.of(1L, 2L, 3L), ids);
+    }
+
+    @Test
+    @DisplayName("testIterator_PropagatesPageFailure")
+    void testIteratorPropagatesPageFailure() {
+        RepositoryPageIterator iterator = new RepositoryPageIterator("page1", url -> {
+            throw new IllegalStateException("Listing repositories failed with status 500");
+        }, executor);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, iterator::hasNext);
+        assertTrue(error.getMessage().contains("500"));
+    }
+
+    private static Repository repository(long id) {
+        Repository repository = new Repository();
+        repository.setId(id);
+        repository.setName("test-repo-" + id);
+        return repository;
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.tests;
+
+import com.github.model.Repository;
+import com.github.model.RepositoryTable;
+import com.github.service.RepositoryJsonReader;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryTableTest {
+
+    private static final String PAGE = """
+        [
+          {
+            "id": 1296269,
+            "name": "Hello-World",
+            "owner": {"login": "octocat", "id": 1},
+            "private": true,
+            "html_url": "https://github.com/octocat/Hello-World",
+            "description": "This your first repo! ✨",
+            "updated_at": "2011-01-26T19:14:43Z"
+          },
+          {
+            "id": 42,
+            "name": "test-repo-abc123",
+            "private": false,
+            "description": null,
+            "html_url": "https://github.com/octocat/test-repo-abc123",
+            "updated_at": "2024-05-01T10:00:00.123456Z"
+          }
+        ]
+        """;
+
+    @Test
+    @DisplayName("testRead_FillsTableLikeReadList")
+    void testReadFillsTable() {
+        RepositoryTable table = new RepositoryTable();
+        RepositoryJsonReader.read(new ByteArrayInputStream(PAGE.getBytes(StandardCharsets.UTF_8)), table);
+        List<Repository> expected = RepositoryJsonReader.readList(new ByteArrayInputStream(PAGE.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, table.size());
+        for (int row = 0; row < table.size(); row++) {
+            assertEquals(expected.get(row), table.get(row), "Row " + row + " should round-trip every field.");
+        }
+        assertTrue(table.isPrivate(0));
+        assertNull(table.getDescription(1));
+        assertEquals(1, table.getUrlPrefixCount(), "Both repositories share the owner's URL prefix.");
+    }
+
+    @Test
+    @DisplayName("testFindById_AfterGrowth")
+    void testFindByIdAfterGrowth() {
+        RepositoryTable table = new RepositoryTable(4);
+        for (int i = 0; i < 10_000; i++) {
+            table.add(1_000_000L + i * 7919L, "repo-" + i, i % 3 == 0 ? null : "Description " + i,
+                i % 2 == 0, "https://github.com/owner-" + (i % 5) + "/repo-" + i, null);
+        }
+
+        long untrimmed = table.estimatedBytes();
+        table.trimToSize();
+
+        assertTrue(table.estimatedBytes() < untrimmed, "Trimming should release growth slack.");
+        assertEquals(10_000, table.size());
+        assertEquals(5, table.getUrlPrefixCount());
+        Repository repository = table.findById(1_000_000L + 1234 * 7919L);
+        assertEquals("repo-1234", repository.getName());
+        assertEquals("https://github.com/owner-4/repo-1234", repository.getHtmlUrl());
+        assertNull(table.findById(-1));
+        assertFalse(table.containsId(999_999L));
+    }
+
+    @Test
+    @DisplayName("testAdd_SameIdOverwritesRow")
+    void testAddSameIdOverwrites() {
+        RepositoryTable table = new RepositoryTable();
+        int row = table.add(7, "old-name", null, false, "https://github.com/octocat/old-name", null);
+
+        assertEquals(row, table.add(7, "new-name", "Renamed", true, "https://github.com/octocat/new-name",
+            "2024-01-01T00:00:00Z"));
+
+        assertEquals(1, table.size());
+        assertEquals("new-name", table.getName(row));
+        assertEquals("https://github.com/octocat/new-name", table.getHtmlUrl(row));
+        assertEquals("2024-01-01T00:00:00Z", table.getUpdatedAt(row));
+        table.trimToSize();
+        assertEquals("Renamed", table.getDescription(row));
+        assertEquals(row, table.rowOf(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getName(1));
+    }
+
+    @Test
+    @DisplayName("testAdd_UrlWithOtherSuffixIsKept")
+    void testUrlSuffixDiffersFromName() {
+        RepositoryTable table = new RepositoryTable();
+        int row = table.add(1, "Hello-World", null, false, "https://github.com/octocat/hello-world", null);
+
+        assertEquals("https://github.com/octocat/hello-world", table.getHtmlUrl(row));
+        assertNull(table.getUpdatedAt(row));
+    }
+}
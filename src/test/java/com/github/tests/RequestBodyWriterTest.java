@@ -0,0 +1,58 @@
+package com.github.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.model.CreateIssueRequest;
+import com.github.model.CreateRepositoryRequest;
+import com.github.model.UpdateIssueRequest;
+import com.github.service.RequestBodyWriter;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestBodyWriterTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("testWriteRepository_EscapesQuotesAndUsesPrivateKey")
+    void testWriteRepositoryEscapes() throws Exception {
+        String description = "Repository \"quoted\" with \\ backslash,\nnewline and ünïcode";
+
+        JsonNode json = MAPPER.readTree(RequestBodyWriter.write(
+            new CreateRepositoryRequest("test-repo-\"x\"", description, true)).bytes());
+
+        assertEquals("test-repo-\"x\"", json.get("name").asText());
+        assertEquals(description, json.get("description").asText());
+        assertTrue(json.get("private").asBoolean());
+        assertFalse(json.has("privateRepo"));
+    }
+
+    @Test
+    @DisplayName("testWriteIssueUpdate_OmitsUnchangedFields")
+    void testWriteIssueUpdateOmitsNulls() {
+        assertEquals("{\"state\":\"closed\"}", RequestBodyWriter.write(UpdateIssueRequest.close()).toString());
+        assertEquals("{\"name\":\"repo\",\"private\":false}",
+            RequestBodyWriter.write(new CreateRepositoryRequest("repo", null, false)).toString());
+        assertEquals("{\"title\":\"Bug\"}",
+            RequestBodyWriter.write(new CreateIssueRequest("Bug", null)).toString());
+    }
+
+    @Test
+    @DisplayName("testWrite_PooledBuffersDoNotLeakBetweenCallers")
+    void testPooledBuffersDoNotLeak() {
+        List<CompletableFuture<Boolean>> writes = IntStream.range(0, 500)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                String title = "Issue " + i + " " + "x".repeat(i % 300);
+                String written = RequestBodyWriter.write(new CreateIssueRequest(title, "body " + i)).toString();
+                return written.equals("{\"title\":\"" + title + "\",\"body\":\"body " + i + "\"}");
+            }))
+            .toList();
+
+        assertTrue(writes.stream().allMatch(CompletableFuture::join), "Every body should contain only its own request.");
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.tests;
+
+import com.github.service.RequestCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private static final String KEY = RequestCoalescer.key("https://api.github.com/user", "token-a", null);
+
+    @Test
+    @DisplayName("testCoalescer_ConcurrentCallersShareOneRequest")
+    void testConcurrentCallersShareOneRequest() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true, new SimpleMeterRegistry());
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Response>> callers = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> coalescer.execute(KEY, blockingCall(calls, release)), executor))
+                .toList();
+            awaitInFlight(coalescer, callers.size() - 1);
+            release.countDown();
+
+            List<Response> responses = callers.stream().map(CompletableFuture::join).toList();
+            assertEquals(1, calls.get(), "Only the first caller should reach the network.");
+            assertEquals(7, coalescer.getCoalescedCount());
+            for (Response response : responses) {
+                assertEquals(200, response.getStatusCode());
+                assertEquals("{\"login\":\"octocat\"}", response.asString());
+            }
+            assertEquals(8, responses.stream().distinct().count(), "Each caller should get its own Response copy.");
+        }
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    @DisplayName("testCoalescer_FailureReachesEveryWaiter")
+    void testFailureReachesEveryWaiter() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true, new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Response>> callers = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> coalescer.execute(KEY, () -> {
+                    await(release);
+                    throw new IllegalStateException("connection reset");
+                }), executor))
+                .toList();
+            awaitInFlight(coalescer, callers.size() - 1);
+            release.countDown();
+
+            for (CompletableFuture<Response> caller : callers) {
+                Exception e = assertThrows(Exception.class, caller::join);
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("testCoalescer_SequentialAndDistinctCallsAreNotShared")
+    void testSequentialAndDistinctCallsAreNotShared() {
+        RequestCoalescer coalescer = new RequestCoalescer(true, new SimpleMeterRegistry());
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Response> call = () -> {
+            calls.incrementAndGet();
+            return ok();
+        };
+
+        coalescer.execute(KEY, call);
+        coalescer.execute(KEY, call);
+        coalescer.execute(RequestCoalescer.key("https://api.github.com/user", "token-b", null), call);
+        coalescer.execute(RequestCoalescer.key("https://api.github.com/user", "token-a", "\"etag\""), call);
+
+        assertEquals(4, calls.get());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    private static Supplier<Response> blockingCall(AtomicInteger calls, CountDownLatch release) {
+        return () -> {
+            calls.incrementAndGet();
+            await(release);
+            return ok();
+        };
+    }
+
+    /**
+     * Waits until the given number of callers have counted as coalesced onto the leader.
+     */
+    private static void awaitInFlight(RequestCoalescer coalescer, int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.getInFlight() == 0 || coalescer.getCoalescedCount() < waiters) {
+            if (System.nanoTime() > deadline) {
+                fail("Callers did not join the in-flight request in time.");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Response ok() {
+        return new ResponseBuilder()
+            .setStatusCode(200)
+            .setHeaders(new Headers())
+            .setBody("{\"login\":\"octocat\"}")
+            .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.tests;
+
+import com.github.config.GitHubProperties;
+import com.github.service.GitHubRequestExecutor;
+import com.github.service.RequestHedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestHedgerTest {
+
+    private static final String URI = "/user";
+
+    private SimpleMeterRegistry meterRegistry;
+    private GitHubRequestExecutor requestExecutor;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        GitHubProperties.Hedging settings = new GitHubProperties.Hedging();
+        settings.setEnabled(true);
+        settings.setMinSamples(20);
+        settings.setMinDelay(Duration.ofMillis(20));
+        meterRegistry = new SimpleMeterRegistry();
+        requestExecutor = new GitHubRequestExecutor(1);
+        hedger = new RequestHedger(settings, requestExecutor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedger.shutdown();
+        requestExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("testExecute_DoesNotHedgeUntilEnoughSamples")
+    void testNoHedgeWithoutSamples() {
+        AtomicInteger hedges = new AtomicInteger();
+
+        Response response = hedger.execute(URI, () -> slow(100, 200), () -> {
+            hedges.incrementAndGet();
+            return response(201);
+        });
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(0, hedges.get());
+        assertEquals(-1, hedger.getHedgeDelayNanos(URI));
+    }
+
+    @Test
+    @DisplayName("testExecute_SlowPrimaryIsRacedByHedge")
+    void testSlowPrimaryIsHedged() {
+        for (int i = 0; i < 20; i++) {
+            hedger.execute(URI, () -> slow(1, 200), () -> response(200));
+        }
+        assertTrue(hedger.getHedgeDelayNanos(URI) >= TimeUnit.MILLISECONDS.toNanos(20),
+            "Hedge delay is at least min-delay.");
+
+        long start = System.nanoTime();
+        Response response = hedger.execute(URI, () -> slow(2_000, 200), () -> response(201));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(201, response.getStatusCode(), "The hedge should answer first.");
+        assertTrue(elapsedMillis < 1_000, "Caller should not wait for the slow primary, waited " + elapsedMillis);
+        assertEquals(1.0, meterRegistry.get("github.client.requests.hedged").counter().count());
+        assertEquals(1.0, meterRegistry.get("github.client.requests.hedged.wins").counter().count());
+    }
+
+    @Test
+    @DisplayName("testExecute_FailedHedgeDoesNotHideSuccessfulPrimary")
+    void testFailedHedgeIgnored() {
+        for (int i = 0; i < 20; i++) {
+            hedger.execute(URI, () -> response(200), () -> response(200));
+        }
+
+        Response response = hedger.execute(URI, () -> slow(200, 200), () -> {
+            throw new IllegalStateException("hedge failed");
+        });
+
+        assertEquals(200, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("testExecute_SkipsHedgeAtInFlightCap")
+    void testHedgeSkippedAtCap() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            hedger.execute(URI, () -> slow(1, 200), () -> response(200));
+        }
+        AtomicInteger hedges = new AtomicInteger();
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Holds the executor's only permit, which it takes once it starts running
+        CompletableFuture<Void> busy = requestExecutor.submit(() -> {
+            holding.countDown();
+            await(release);
+            return null;
+        });
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+        try {
+            Response response = hedger.execute(URI, () -> slow(200, 200), () -> {
+                hedges.incrementAndGet();
+                return response(201);
+            });
+
+            assertEquals(200, response.getStatusCode(), "Without a free permit the primary's answer is used.");
+            assertEquals(0, hedges.get());
+            assertEquals(0.0, meterRegistry.get("github.client.requests.hedged").counter().count());
+            assertEquals(1.0, meterRegistry.get("github.client.requests.hedged.skipped").counter().count());
+        } finally {
+            release.countDown();
+            busy.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("testExecute_SkipsHedgeWithoutBudget")
+    void testHedgeSkippedWithoutBudget() {
+        for (int i = 0; i < 20; i++) {
+            hedger.execute(URI, () -> slow(1, 200), () -> response(200));
+        }
+        AtomicInteger hedges = new AtomicInteger();
+        AtomicInteger budgetChecks = new AtomicInteger();
+
+        Response response = hedger.execute(URI, () -> slow(200, 200), () -> {
+            hedges.incrementAndGet();
+            return response(201);
+        }, () -> budgetChecks.incrementAndGet() < 0);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(1, budgetChecks.get(), "Budget is only asked for once the hedge delay has passed.");
+        assertEquals(0, hedges.get());
+        assertEquals(1.0, meterRegistry.get("github.client.requests.hedged.skipped").counter().count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Response slow(long millis, int statusCode) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return response(statusCode);
+    }
+
+    private static Response response(int statusCode) {
+        return new ResponseBuilder().setStatusCode(statusCode).setHeaders(new Headers()).build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.tests;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.model.Log;
+import com.github.config.GitHubProperties;
+import com.github.service.RequestLogPipeline;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLogPipelineTest {
+
+    @Test
+    @DisplayName("testFormat_TruncatesLargeBodies")
+    void testFormatTruncatesLargeBodies() {
+        RequestLogPipeline pipeline = new RequestLogPipeline(settings(true, 32, 16));
+        try {
+            String body = "[" + "{\"name\":\"test-repo\"},".repeat(10) + "{}]";
+
+            String text = pipeline.format("GET", "/user/repos", null, 200, body);
+
+            assertTrue(text.contains("[truncated " + (body.length() - 32) + " chars]"), text);
+            assertTrue(text.contains("Body:\nNo body"), "Missing request body should be reported as 'No body'.");
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    @DisplayName("testFormat_PrettyPrintsSmallJson")
+    void testFormatPrettyPrintsSmallJson() {
+        RequestLogPipeline pipeline = new RequestLogPipeline(settings(false, 1024, 16));
+
+        String text = pipeline.format("POST", "/user/repos", "{\"name\":\"a\"}", 201, "{\"id\":1}");
+
+        assertTrue(text.contains("\"name\" : \"a\""), text);
+        assertTrue(text.contains("\"id\" : 1"), text);
+    }
+
+    @Test
+    @DisplayName("testSubmit_WritesEntriesInBackground")
+    void testSubmitWritesEntriesInBackground() {
+        RequestLogPipeline pipeline = new RequestLogPipeline(settings(true, 1024, 16));
+        ExtentTest test = new ExtentReports().createTest("pipeline");
+        try {
+            for (int i = 0; i < 10; i++) {
+                pipeline.submit(test, "GET", "/user", null, response("{\"login\":\"octocat\"}"));
+            }
+
+            assertTrue(pipeline.drain(5, TimeUnit.SECONDS), "Queue should drain.");
+            assertEquals(10, test.getModel().getLogs().size());
+            assertEquals(0, pipeline.getDroppedCount());
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    @DisplayName("testSubmit_KeepsOrderWithTestLogs")
+    void testSubmitKeepsOrderWithTestLogs() {
+        RequestLogPipeline pipeline = new RequestLogPipeline(settings(true, 1024, 16));
+        ExtentTest test = new ExtentReports().createTest("ordered");
+        try {
+            test.info("before");
+            pipeline.submit(test, "GET", "/user", null, response("{\"login\":\"octocat\"}"));
+            test.info("after");
+
+            assertTrue(pipeline.drain(test, 5, TimeUnit.SECONDS), "The test's entries should drain.");
+            List<Log> logs = test.getModel().getLogs();
+            assertEquals(3, logs.size());
+            assertEquals("before", logs.get(0).getDetails());
+            assertTrue(logs.get(1).getDetails().contains("octocat"), "The entry should be filled in where it was submitted.");
+            assertEquals("after", logs.get(2).getDetails());
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    @DisplayName("testSubmit_SkipsNullTest")
+    void testSubmitSkipsNullTest() {
+        RequestLogPipeline pipeline = new RequestLogPipeline(settings(false, 1024, 16));
+
+        assertDoesNotThrow(() -> pipeline.submit(null, "GET", "/user", null, response("{}")));
+    }
+
+    private static Response response(String body) {
+        return new ResponseBuilder().setStatusCode(200).setBody(body).build();
+    }
+
+    private static GitHubProperties.Logging settings(boolean async, int maxBodyChars, int queueCapacity) {
+        GitHubProperties.Logging settings = new GitHubProperties.Logging();
+        settings.setAsync(async);
+        settings.setMaxBodyChars(maxBodyChars);
+        settings.setQueueCapacity(queueCapacity);
+        settings.setOverflowPolicy(GitHubProperties.Logging.OverflowPolicy.BLOCK);
+        return settings;
+    }
+}
@@ -0,0 +1,210 @@
+package com.github.tests;
+
+import com.github.config.GitHubProperties;
+import com.github.service.CircuitBreaker;
+import com.github.service.CircuitBreakerOpenException;
+import com.github.service.RetryPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.io.UncheckedIOException;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    private static final String URI = "/repos/{owner}/{repo}";
+
+    private CircuitBreaker circuitBreaker;
+    private RetryPolicy retryPolicy;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+        retryPolicy = retryPolicy();
+    }
+
+    @Test
+    @DisplayName("testExecute_RetriesTransientStatusForIdempotentCalls")
+    void testRetriesTransientStatus() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Response response = execute(retryPolicy, circuitBreaker, "GET", true,
+            () -> response(calls.incrementAndGet() < 3 ? 502 : 200));
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(3, calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("testExecute_GivesUpAfterMaxAttempts")
+    void testGivesUpAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Response response = execute(retryPolicy, circuitBreaker, "DELETE", true, () -> {
+            calls.incrementAndGet();
+            return response(503);
+        });
+
+        assertEquals(503, response.getStatusCode(), "The last response is returned once attempts run out.");
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("testExecute_DoesNotRetryNonIdempotentOrClientErrors")
+    void testDoesNotRetryNonIdempotent() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals(502, execute(retryPolicy, circuitBreaker, "POST", RetryPolicy.isIdempotent("POST"), () -> {
+            calls.incrementAndGet();
+            return response(502);
+        }).getStatusCode());
+        assertEquals(404, execute(retryPolicy, circuitBreaker, "GET", true, () -> {
+            calls.incrementAndGet();
+            return response(404);
+        }).getStatusCode());
+
+        assertEquals(2, calls.get(), "Neither a POST nor a 404 should be repeated.");
+    }
+
+    @Test
+    @DisplayName("testExecute_RetriesConnectionErrors")
+    void testRetriesConnectionErrors() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Response response = execute(retryPolicy, circuitBreaker, "GET", true, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new UncheckedIOException(new SocketException("Connection reset"));
+            }
+            return response(200);
+        });
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("testBackoff_StaysWithinExponentialCeiling")
+    void testBackoffWithinCeiling() {
+        for (int i = 0; i < 200; i++) {
+            assertTrue(retryPolicy.backoffMillis(1) <= 10);
+            assertTrue(retryPolicy.backoffMillis(3) <= 40);
+            assertTrue(retryPolicy.backoffMillis(20) <= 100, "Backoff must be capped at max-backoff.");
+        }
+    }
+
+    @Test
+    @DisplayName("testCircuitBreaker_FailsFastWhileOpen")
+    void testCircuitBreakerFailsFast() {
+        AtomicInteger calls = new AtomicInteger();
+        // Two calls of three failed attempts each exceed the threshold of five
+        for (int i = 0; i < 2; i++) {
+            try {
+                execute(retryPolicy, circuitBreaker, "GET", true, () -> {
+                    calls.incrementAndGet();
+                    return response(502);
+                });
+            } catch (CircuitBreakerOpenException expected) {
+                // The breaker may open between attempts of the second call
+            }
+        }
+        int sent = calls.get();
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(CircuitBreakerOpenException.class,
+            () -> execute(retryPolicy, circuitBreaker, "GET", true, () -> {
+                calls.incrementAndGet();
+                return response(200);
+            }));
+        assertEquals(sent, calls.get(), "No request may be sent while the circuit is open.");
+    }
+
+    @Test
+    @DisplayName("testCircuitBreaker_ClosesAfterSuccessfulProbe")
+    void testCircuitBreakerClosesAfterProbe() throws InterruptedException {
+        CircuitBreaker breaker = circuitBreaker(Duration.ofMillis(100));
+        for (int i = 0; i < 5; i++) {
+            breaker.acquirePermission();
+            breaker.onFailure();
+        }
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquirePermission);
+
+        Thread.sleep(150);
+        breaker.acquirePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquirePermission,
+            "Only one probe may be in flight while half-open.");
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertDoesNotThrow(breaker::acquirePermission);
+    }
+
+    @Test
+    @DisplayName("testCircuitBreaker_CountsServerErrorsThatAreNotRetried")
+    void testCircuitBreakerCountsUnretriedServerErrors() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(500, execute(retryPolicy, circuitBreaker, "GET", true, () -> {
+                calls.incrementAndGet();
+                return response(500);
+            }).getStatusCode());
+        }
+
+        assertEquals(5, calls.get(), "500 is not in retry-on-status, so it is not repeated.");
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState(), "Every 5xx counts towards opening the circuit.");
+    }
+
+    @Test
+    @DisplayName("testCircuitBreaker_ReleasesProbeWhenCallThrowsError")
+    void testCircuitBreakerReleasesProbeOnError() throws InterruptedException {
+        CircuitBreaker breaker = circuitBreaker(Duration.ofMillis(100));
+        RetryPolicy policy = retryPolicy();
+        for (int i = 0; i < 5; i++) {
+            breaker.acquirePermission();
+            breaker.onFailure();
+        }
+        Thread.sleep(150);
+
+        assertThrows(AssertionError.class, () -> execute(policy, breaker, "GET", true, () -> {
+            throw new AssertionError("probe failed without a response");
+        }));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(200, execute(policy, breaker, "GET", true, () -> response(200)).getStatusCode(),
+            "The next call must be let through as the probe.");
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * Retries around the breaker, as GitHubApiClient wraps each request.
+     */
+    private static Response execute(RetryPolicy policy, CircuitBreaker breaker, String method, boolean idempotent,
+                                    Supplier<Response> call) {
+        return policy.execute(method, URI, idempotent, () -> breaker.execute(call));
+    }
+
+    private static RetryPolicy retryPolicy() {
+        GitHubProperties.Retry settings = new GitHubProperties.Retry();
+        settings.setInitialBackoff(Duration.ofMillis(10));
+        settings.setMaxBackoff(Duration.ofMillis(100));
+        return new RetryPolicy(settings, new SimpleMeterRegistry());
+    }
+
+    private static CircuitBreaker circuitBreaker(Duration openDuration) {
+        GitHubProperties.CircuitBreaker settings = new GitHubProperties.CircuitBreaker();
+        settings.setOpenDuration(openDuration);
+        return new CircuitBreaker(settings, new SimpleMeterRegistry());
+    }
+
+    private static Response response(int statusCode) {
+        return new ResponseBuilder().setStatusCode(statusCode).setHeaders(new Headers()).build();
+    }
+}
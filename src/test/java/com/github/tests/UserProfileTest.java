@@ -8,6 +8,7 @@ import com.github.service.GitHubApiClient;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Isolated;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -15,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ExtendWith(ExtentJUnit5Extension.class)
+// Swaps the token of the shared client, which would fail any test running alongside
+@Isolated
 class UserProfileTest {
 
     @Autowired
@@ -0,0 +1,213 @@
+package com.github.tests;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.github.listener.ExtentJUnit5Extension;
+import com.github.listener.TestResources;
+import com.github.service.ConditionalRequestCache;
+import com.github.service.GitHubApiClient;
+import com.github.service.RepositoryIndex;
+import com.github.stub.GitHubStubServer;
+import com.github.webhook.WebhookController;
+import com.github.webhook.WebhookEvent;
+import com.github.webhook.WebhookEventBus;
+import com.github.webhook.WebhookSignature;
+import org.json.JSONObject;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@ExtendWith(ExtentJUnit5Extension.class)
+@ResourceLock(value = TestResources.REPOSITORIES, mode = ResourceAccessMode.READ_WRITE)
+class WebhookReceiverTest {
+
+    private static final String SECRET = "test-webhook-secret";
+
+    @Autowired
+    private GitHubApiClient gitHubApiClient;
+
+    @Autowired
+    private GitHubStubServer stubServer;
+
+    @Autowired
+    private WebhookController webhookController;
+
+    @Autowired
+    private WebhookEventBus eventBus;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(webhookController).build();
+    }
+
+    @Test
+    @DisplayName("testSignature_RejectsUnsignedForgedAndTampered")
+    void testRejectsBadSignatures(ExtentTest test) throws Exception {
+        byte[] body = recorded("issues-opened.json").toString().getBytes(StandardCharsets.UTF_8);
+        CompletableFuture<WebhookEvent> opened = eventBus.awaitIssue("octocat", "Hello-World", 1347, "opened");
+        byte[] tampered = new String(body, StandardCharsets.UTF_8).replace("1347", "1348").getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(401, deliver("issues", body, null));
+        assertEquals(401, deliver("issues", body, WebhookSignature.sign("another-secret", body)));
+        assertEquals(401, deliver("issues", tampered, WebhookSignature.sign(SECRET, body)));
+        assertFalse(opened.isDone(), "Rejected deliveries must not reach the event bus.");
+
+        assertEquals(202, deliver("issues", body, WebhookSignature.sign(SECRET, body)));
+        assertEquals(1347, opened.getNow(null).issueNumber());
+        test.log(Status.PASS, "Only the correctly signed delivery was published.");
+    }
+
+    @Test
+    @DisplayName("testRepositoryDeleted_UpdatesIndexCacheAndWaiter")
+    void testRepositoryDeleted(ExtentTest test) throws Exception {
+        String owner = gitHubApiClient.getDefaultOwner();
+        String name = "webhook-repo-" + UUID.randomUUID().toString().substring(0, 8);
+        assertEquals(201, gitHubApiClient.createRepositoryResponse(name, null, false, test).getStatusCode());
+        RepositoryIndex index = gitHubApiClient.getRepositoryIndex();
+        long id = index.findByName(name).orElseThrow().getId();
+
+        gitHubApiClient.listRepositories(test);
+        String listingKey = ConditionalRequestCache.key(gitHubApiClient.getBaseUrl() + "/user/repos", gitHubApiClient.getToken());
+        assertNotNull(gitHubApiClient.getResponseCache().get(listingKey));
+
+        CompletableFuture<WebhookEvent> deleted = eventBus.awaitRepository(owner, name, "deleted");
+        // Deleted elsewhere; the webhook is the client's only way to hear of it without re-listing
+        stubServer.getState().deleteRepository(owner, name);
+        assertEquals(202, deliver("repository", retarget(recorded("repository-deleted.json"), id, owner, name)));
+
+        assertTrue(deleted.isDone(), "The waiter should complete on the matching delivery.");
+        assertFalse(index.contains(name), "A deleted repository should leave the index.");
+        assertNull(gitHubApiClient.getResponseCache().get(listingKey), "The cached listing should be evicted.");
+        assertEquals(0, eventBus.getWaiterCount());
+        test.log(Status.PASS, "Deletion reached the index, the cache and the waiter without polling.");
+    }
+
+    @Test
+    @DisplayName("testRepositoryRenamed_ReplacesIndexEntry")
+    void testRepositoryRenamed(ExtentTest test) throws Exception {
+        String owner = gitHubApiClient.getDefaultOwner();
+        String name = "webhook-repo-" + UUID.randomUUID().toString().substring(0, 8);
+        assertEquals(201, gitHubApiClient.createRepositoryResponse(name, null, false, test).getStatusCode());
+        RepositoryIndex index = gitHubApiClient.getRepositoryIndex();
+        long id = index.findByName(name).orElseThrow().getId();
+        try {
+            JSONObject payload = retarget(recorded("repository-renamed.json"), id, owner, name + "-renamed");
+            payload.getJSONObject("changes").getJSONObject("repository").getJSONObject("name").put("from", name);
+
+            assertEquals(202, deliver("repository", payload));
+
+            assertFalse(index.contains(name));
+            assertEquals(id, index.findByName(name + "-renamed").orElseThrow().getId());
+            test.log(Status.PASS, "Rename replaced the index entry.");
+        } finally {
+            stubServer.getState().deleteRepository(owner, name);
+            index.remove(id);
+        }
+    }
+
+    @Test
+    @DisplayName("testOtherOwnersAndTransfers_KeepIndexToOwnRepositories")
+    void testOtherOwnersAndTransfers(ExtentTest test) throws Exception {
+        String owner = gitHubApiClient.getDefaultOwner();
+        String name = "webhook-repo-" + UUID.randomUUID().toString().substring(0, 8);
+        assertEquals(201, gitHubApiClient.createRepositoryResponse(name, null, false, test).getStatusCode());
+        RepositoryIndex index = gitHubApiClient.getRepositoryIndex();
+        long id = index.findByName(name).orElseThrow().getId();
+        try {
+            // Same name under another owner; the index is keyed by bare name
+            JSONObject foreign = retarget(recorded("repository-renamed.json"), id + 1_000_000, "octo-org", name);
+            foreign.getJSONObject("changes").getJSONObject("repository").getJSONObject("name").put("from", name + "-old");
+            assertEquals(202, deliver("repository", foreign));
+            assertEquals(id, index.findByName(name).orElseThrow().getId(),
+                "An event for another owner's repository must not replace ours.");
+
+            JSONObject transferred = retarget(recorded("repository-transferred.json"), id, "octo-org", name);
+            transferred.getJSONObject("changes").getJSONObject("owner").getJSONObject("from")
+                .getJSONObject("user").put("login", owner);
+            assertEquals(202, deliver("repository", transferred));
+            assertFalse(index.contains(name), "A repository transferred away should leave the index.");
+            assertTrue(index.findById(id).isEmpty());
+            test.log(Status.PASS, "Only the account's own repositories were written to the index.");
+        } finally {
+            stubServer.getState().deleteRepository(owner, name);
+            index.remove(id);
+        }
+    }
+
+    @Test
+    @DisplayName("testPingAndUnknownEvents_AcknowledgedNotPublished")
+    void testIgnoredEvents(ExtentTest test) throws Exception {
+        byte[] ping = recorded("ping.json").toString().getBytes(StandardCharsets.UTF_8);
+        CompletableFuture<WebhookEvent> any = eventBus.await(event -> true);
+        try {
+            assertEquals(204, deliver("ping", ping, WebhookSignature.sign(SECRET, ping)));
+            assertEquals(400, deliver(null, ping, WebhookSignature.sign(SECRET, ping)));
+            assertEquals(400, deliver("repository", ping, WebhookSignature.sign(SECRET, ping)),
+                "A repository event without a repository is malformed.");
+            assertFalse(any.isDone());
+            test.log(Status.PASS, "Ping and malformed deliveries were not published.");
+        } finally {
+            any.cancel(false);
+        }
+    }
+
+    private int deliver(String type, JSONObject payload) throws Exception {
+        byte[] body = payload.toString().getBytes(StandardCharsets.UTF_8);
+        return deliver(type, body, WebhookSignature.sign(SECRET, body));
+    }
+
+    private int deliver(String type, byte[] body, String signature) throws Exception {
+        var request = post("/webhooks/github")
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("X-GitHub-Delivery", UUID.randomUUID().toString())
+            .content(body);
+        if (type != null) {
+            request.header("X-GitHub-Event", type);
+        }
+        if (signature != null) {
+            request.header(WebhookSignature.HEADER, signature);
+        }
+        return mockMvc.perform(request).andReturn().getResponse().getStatus();
+    }
+
+    /**
+     * Payload recorded from a real delivery, under src/test/resources/webhooks.
+     */
+    private static JSONObject recorded(String file) throws IOException {
+        try (InputStream in = WebhookReceiverTest.class.getResourceAsStream("/webhooks/" + file)) {
+            assertNotNull(in, "Missing recorded payload " + file);
+            return new JSONObject(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Points a recorded repository payload at a repository of the stub.
+     */
+    private static JSONObject retarget(JSONObject payload, long id, String owner, String name) {
+        JSONObject repository = payload.getJSONObject("repository");
+        repository.put("id", id);
+        repository.put("name", name);
+        repository.put("full_name", owner + "/" + name);
+        repository.put("html_url", "https://github.com/" + owner + "/" + name);
+        repository.getJSONObject("owner").put("login", owner);
+        return payload;
+    }
+}